@@ -0,0 +1,468 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * An implementation of an IndexedList that picks its representation
+ * per region as the list fills up or empties out.
+ * Positions are grouped into fixed-size chunks, in the style of Roaring
+ * bitmap containers. A chunk holding no values is not allocated, a
+ * chunk holding few values keeps sorted offsets and their values, and
+ * a chunk past 1/16 full switches to a plain array with one slot per
+ * position. A dense chunk only switches back once it falls below 1/64
+ * full, so puts around one threshold do not convert back and forth.
+ *
+ * @param <T> Element type.
+ */
+public class AdaptiveIndexedList<T> implements SparseList<T> {
+  private static final int DEFAULT_CHUNK_BITS = 12;
+  // Offsets within a chunk are stored as chars.
+  private static final int MAX_CHUNK_BITS = 16;
+  // A sparse chunk becomes dense above span >>> DENSE_SHIFT values,
+  // a dense chunk becomes sparse below span >>> SPARSE_SHIFT values.
+  private static final int DENSE_SHIFT = 4;
+  private static final int SPARSE_SHIFT = 6;
+  private static final int MIN_CAPACITY = 4;
+
+  private final T defaultValue;
+  private final int length;
+  private final int chunkBits;
+  private final int chunkMask;
+  private final Chunk<T>[] chunks;
+  private int total;
+
+  /**
+   * Constructs a new AdaptiveIndexedList of length size
+   * with default value of defaultValue and chunks of 4096 slots.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public AdaptiveIndexedList(int size, T defaultValue) throws LengthException {
+    this(size, defaultValue, DEFAULT_CHUNK_BITS);
+  }
+
+  /**
+   * Constructs a new AdaptiveIndexedList of length size
+   * with default value of defaultValue and chunks of 2^chunkBits slots.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @param chunkBits log2 of the chunk size, expected: 0 < chunkBits <= 16.
+   * @throws LengthException if size <= 0 or chunkBits is out of range.
+   */
+  @SuppressWarnings("unchecked")
+  public AdaptiveIndexedList(int size, T defaultValue, int chunkBits) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    if (chunkBits <= 0 || chunkBits > MAX_CHUNK_BITS) {
+      throw new LengthException("ERROR: INVALID CHUNK SIZE");
+    }
+    this.length = size;
+    this.defaultValue = defaultValue;
+    this.chunkBits = chunkBits;
+    this.chunkMask = (1 << chunkBits) - 1;
+    int chunkCount = (int) (((long) size + chunkMask) >>> chunkBits);
+    this.chunks = (Chunk<T>[]) new Chunk<?>[chunkCount];
+  }
+
+  /**
+   * Return the length of AdaptiveIndexedList.
+   *
+   * @return length of AdaptiveIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  /**
+   * Get the value at certain index.
+   *
+   * @param index representing a position in this list.
+   * @return stored value, defaultValue if the chunk is not allocated
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    Chunk<T> chunk = chunks[index >>> chunkBits];
+    return chunk == null ? defaultValue : chunk.get(index & chunkMask);
+  }
+
+  /**
+   * Put a value into the list at a certain index.
+   * Allocates a sparse chunk on its first non-default value, converts
+   * the chunk when its fill crosses a threshold and releases it when
+   * its last non-default value is overwritten.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index) == value
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    int c = index >>> chunkBits;
+    Chunk<T> chunk = chunks[c];
+    if (chunk == null) {
+      if (value == defaultValue) {
+        return;
+      }
+      chunk = new SparseChunk<>(defaultValue, Math.min(chunkMask + 1, length - (c << chunkBits)));
+    }
+    int before = chunk.count;
+    Chunk<T> after = chunk.put(index & chunkMask, value);
+    total += (after == null ? 0 : after.count) - before;
+    chunks[c] = after;
+  }
+
+  /**
+   * Number of chunks currently stored as plain arrays.
+   *
+   * @return the count
+   */
+  int denseChunkCount() {
+    int dense = 0;
+    for (Chunk<T> chunk : chunks) {
+      if (chunk instanceof DenseChunk) {
+        dense++;
+      }
+    }
+    return dense;
+  }
+
+  @Override
+  public T defaultValue() {
+    return defaultValue;
+  }
+
+  @Override
+  public int nonDefaultCount() {
+    return total;
+  }
+
+  /**
+   * Visit the non-default slots of the allocated chunks in index order.
+   * Sparse chunks visit only their stored offsets while dense chunks are
+   * scanned slot by slot, so the cost is O(length() / chunkSize + stored
+   * offsets in sparse chunks + dense chunks * chunkSize).
+   *
+   * @param action receives the index and value of each stored position.
+   */
+  @Override
+  public void forEachNonDefault(IndexValueConsumer<? super T> action) {
+    for (int c = 0; c < chunks.length; c++) {
+      if (chunks[c] != null) {
+        chunks[c].forEach(c << chunkBits, action);
+      }
+    }
+  }
+
+  /**
+   * Find the first non-default slot at or after from, skipping
+   * unallocated chunks without looking into them. Sparse chunks answer
+   * by binary search and dense chunks by scanning their slots, so the
+   * cost is one check per chunk passed plus up to chunkSize per dense chunk.
+   *
+   * @param from position to start looking at.
+   * @return the smallest stored index >= from, or -1 if there is none.
+   * @throws IndexException when from < 0 or from > length.
+   */
+  @Override
+  public int nextNonDefaultIndex(int from) throws IndexException {
+    if (from < 0 || from > length) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+    int first = from & chunkMask;
+    for (int c = from >>> chunkBits; c < chunks.length; c++) {
+      int offset = chunks[c] == null ? -1 : chunks[c].next(first);
+      if (offset >= 0) {
+        return (c << chunkBits) + offset;
+      }
+      first = 0;
+    }
+    return -1;
+  }
+
+  @Override
+  public Iterator<Map.Entry<Integer, T>> nonDefaultEntries() {
+    return new Iterator<>() {
+      private int nextIndex = nextNonDefaultIndex(0);
+
+      @Override
+      public boolean hasNext() {
+        return nextIndex >= 0;
+      }
+
+      @Override
+      public Map.Entry<Integer, T> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int index = nextIndex;
+        nextIndex = index + 1 < length ? nextNonDefaultIndex(index + 1) : -1;
+        return new AbstractMap.SimpleImmutableEntry<>(index, get(index));
+      }
+    };
+  }
+
+  /**
+   * Creates a spliterator that splits by index range; get is cheap
+   * enough to read every position directly.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates an iterator for AdaptiveIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new AdaptiveIndexedListIterator();
+  }
+
+  /**
+   * The values of one chunk. count is the number of positions
+   * holding something other than defaultValue.
+   *
+   * @param <T> Element type.
+   */
+  private abstract static class Chunk<T> {
+    final T defaultValue;
+    // Number of positions covered; only the last chunk can be shorter.
+    final int span;
+    int count;
+
+    Chunk(T defaultValue, int span) {
+      this.defaultValue = defaultValue;
+      this.span = span;
+    }
+
+    abstract T get(int offset);
+
+    /**
+     * Store value at offset.
+     *
+     * @return the chunk now holding the contents, null if all are default
+     */
+    abstract Chunk<T> put(int offset, T value);
+
+    /**
+     * Find the smallest stored offset >= from.
+     *
+     * @return the offset, -1 if there is none
+     */
+    abstract int next(int from);
+
+    abstract void forEach(int base, IndexValueConsumer<? super T> action);
+  }
+
+  /**
+   * A chunk storing sorted offsets and their values.
+   *
+   * @param <T> Element type.
+   */
+  private static final class SparseChunk<T> extends Chunk<T> {
+    private char[] offsets;
+    private T[] values;
+
+    @SuppressWarnings("unchecked")
+    SparseChunk(T defaultValue, int span) {
+      super(defaultValue, span);
+      offsets = new char[MIN_CAPACITY];
+      values = (T[]) new Object[MIN_CAPACITY];
+    }
+
+    private int search(int offset) {
+      return Arrays.binarySearch(offsets, 0, count, (char) offset);
+    }
+
+    @Override
+    T get(int offset) {
+      int i = search(offset);
+      return i >= 0 ? values[i] : defaultValue;
+    }
+
+    @Override
+    Chunk<T> put(int offset, T value) {
+      int i = search(offset);
+      if (i >= 0 && value != defaultValue) {
+        values[i] = value;
+      } else if (i >= 0) {
+        remove(i);
+        return count == 0 ? null : this;
+      } else if (value != defaultValue) {
+        insert(-i - 1, offset, value);
+        return count > span >>> DENSE_SHIFT ? toDense() : this;
+      }
+      return this;
+    }
+
+    private void insert(int i, int offset, T value) {
+      if (count == offsets.length) {
+        offsets = Arrays.copyOf(offsets, count * 2);
+        values = Arrays.copyOf(values, count * 2);
+      }
+      System.arraycopy(offsets, i, offsets, i + 1, count - i);
+      System.arraycopy(values, i, values, i + 1, count - i);
+      offsets[i] = (char) offset;
+      values[i] = value;
+      count++;
+    }
+
+    private void remove(int i) {
+      count--;
+      System.arraycopy(offsets, i + 1, offsets, i, count - i);
+      System.arraycopy(values, i + 1, values, i, count - i);
+      values[count] = null;
+    }
+
+    private void append(int offset, T value) {
+      insert(count, offset, value);
+    }
+
+    private DenseChunk<T> toDense() {
+      DenseChunk<T> dense = new DenseChunk<>(defaultValue, span);
+      for (int i = 0; i < count; i++) {
+        dense.values[offsets[i]] = values[i];
+      }
+      dense.count = count;
+      return dense;
+    }
+
+    @Override
+    int next(int from) {
+      int i = search(from);
+      if (i < 0) {
+        i = -i - 1;
+      }
+      return i < count ? offsets[i] : -1;
+    }
+
+    @Override
+    void forEach(int base, IndexValueConsumer<? super T> action) {
+      for (int i = 0; i < count; i++) {
+        action.accept(base + offsets[i], values[i]);
+      }
+    }
+  }
+
+  /**
+   * A chunk storing one slot per position.
+   *
+   * @param <T> Element type.
+   */
+  private static final class DenseChunk<T> extends Chunk<T> {
+    private final T[] values;
+
+    @SuppressWarnings("unchecked")
+    DenseChunk(T defaultValue, int span) {
+      super(defaultValue, span);
+      values = (T[]) new Object[span];
+      if (defaultValue != null) {
+        Arrays.fill(values, defaultValue);
+      }
+    }
+
+    @Override
+    T get(int offset) {
+      return values[offset];
+    }
+
+    @Override
+    Chunk<T> put(int offset, T value) {
+      count += (value != defaultValue ? 1 : 0) - (values[offset] != defaultValue ? 1 : 0);
+      values[offset] = value;
+      if (count == 0) {
+        return null;
+      }
+      return count < span >>> SPARSE_SHIFT ? toSparse() : this;
+    }
+
+    private SparseChunk<T> toSparse() {
+      SparseChunk<T> sparse = new SparseChunk<>(defaultValue, span);
+      for (int offset = 0; offset < span; offset++) {
+        if (values[offset] != defaultValue) {
+          sparse.append(offset, values[offset]);
+        }
+      }
+      return sparse;
+    }
+
+    @Override
+    int next(int from) {
+      for (int offset = from; offset < span; offset++) {
+        if (values[offset] != defaultValue) {
+          return offset;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    void forEach(int base, IndexValueConsumer<? super T> action) {
+      for (int offset = 0; offset < span; offset++) {
+        if (values[offset] != defaultValue) {
+          action.accept(base + offset, values[offset]);
+        }
+      }
+    }
+  }
+
+  /**
+   * An iterator that jumps from one stored position to the next
+   * and returns defaultValue in between.
+   */
+  private class AdaptiveIndexedListIterator implements Iterator<T> {
+    private int cursor;
+    private int stored = nextNonDefaultIndex(0);
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T data = defaultValue;
+      if (cursor == stored) {
+        data = get(cursor);
+        stored = cursor + 1 < length ? nextNonDefaultIndex(cursor + 1) : -1;
+      }
+      cursor++;
+      return data;
+    }
+  }
+}
@@ -2,8 +2,12 @@ package hw2;
 
 import exceptions.IndexException;
 import exceptions.LengthException;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Array implementation of IndexedList.
@@ -11,7 +15,7 @@ import java.util.NoSuchElementException;
  *
  * @param <T> Element type.
  */
-public class ArrayIndexedList<T> implements IndexedList<T> {
+public class ArrayIndexedList<T> implements IndexedList<T>, RandomAccess {
 
   private T[] data;
 
@@ -70,6 +74,58 @@ public class ArrayIndexedList<T> implements IndexedList<T> {
     return data.length;
   }
 
+  // Check that count positions starting at offset lie within size.
+  private static void checkRange(int offset, int count, int size) {
+    if (offset < 0 || count < 0 || offset > size - count) {
+      throw new IndexException();
+    }
+  }
+
+  @Override
+  public void fill(int from, int to, T value) throws IndexException {
+    checkRange(from, to - from, data.length);
+    Arrays.fill(data, from, to, value);
+  }
+
+  @Override
+  public void putRange(int from, T[] src) throws IndexException {
+    checkRange(from, src.length, data.length);
+    System.arraycopy(src, 0, data, from, src.length);
+  }
+
+  @Override
+  public void getRange(int from, int to, T[] dst) throws IndexException {
+    checkRange(from, to - from, data.length);
+    checkRange(0, to - from, dst.length);
+    System.arraycopy(data, from, dst, 0, to - from);
+  }
+
+  @Override
+  public void copyFrom(IndexedList<? extends T> src, int srcFrom, int from, int count)
+      throws IndexException {
+    if (!(src instanceof ArrayIndexedList)) {
+      IndexedList.super.copyFrom(src, srcFrom, from, count);
+      return;
+    }
+    // arraycopy handles overlapping ranges when src == this.
+    Object[] other = ((ArrayIndexedList<? extends T>) src).data;
+    checkRange(srcFrom, count, other.length);
+    checkRange(from, count, data.length);
+    System.arraycopy(other, srcFrom, data, from, count);
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    // Splits data by index range; ORDERED, SIZED and SUBSIZED.
+    return Spliterators.spliterator(data, 0, data.length, Spliterator.ORDERED);
+  }
+
+  @Override
+  public Spliterator<T> spliterator(int from, int to) throws IndexException {
+    checkRange(from, to - from, data.length);
+    return Spliterators.spliterator(data, from, to, Spliterator.ORDERED);
+  }
+
   @Override
   public Iterator<T> iterator() {
     return new ArrayIndexedListIterator();
@@ -0,0 +1,72 @@
+package hw2;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a sequential iterator whose number of remaining
+ * elements is known, as for the linked implementations of IndexedList.
+ * A split copies the first half of the remaining elements into an
+ * array while walking past them, and hands that array off as the
+ * prefix; the array part then splits further without walking nodes.
+ *
+ * @param <T> Element type.
+ */
+final class BufferingSpliterator<T> implements Spliterator<T> {
+  private final Iterator<? extends T> iterator;
+  private int remaining;
+
+  /**
+   * Constructs a spliterator over the next count elements of iterator.
+   *
+   * @param iterator source of the elements.
+   * @param count number of elements to take from iterator.
+   */
+  BufferingSpliterator(Iterator<? extends T> iterator, int count) {
+    this.iterator = iterator;
+    this.remaining = count;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (remaining <= 0) {
+      return false;
+    }
+    remaining--;
+    action.accept(iterator.next());
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    for (; remaining > 0; remaining--) {
+      action.accept(iterator.next());
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int half = remaining / 2;
+    if (half == 0) {
+      return null;
+    }
+    Object[] batch = new Object[half];
+    for (int i = 0; i < half; i++) {
+      batch[i] = iterator.next();
+    }
+    remaining -= half;
+    return Spliterators.spliterator(batch, ORDERED);
+  }
+
+  @Override
+  public long estimateSize() {
+    return remaining;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+}
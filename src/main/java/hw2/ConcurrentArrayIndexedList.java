@@ -0,0 +1,149 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe array implementation of IndexedList.
+ * Slots live in an AtomicReferenceArray: get and put have volatile
+ * semantics, and the compare-and-set style updates below change one
+ * slot atomically without locking the rest of the list. Iteration is
+ * weakly consistent: each slot is read once, at the time it is reached.
+ *
+ * @param <T> Element type.
+ */
+public class ConcurrentArrayIndexedList<T> implements IndexedList<T> {
+
+  private final AtomicReferenceArray<T> data;
+
+  /**
+   * Constructs a new ConcurrentArrayIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of array, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public ConcurrentArrayIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    data = new AtomicReferenceArray<>(size);
+
+    // Slots are null by default.
+    if (defaultValue == null) {
+      return;
+    }
+
+    for (int i = 0; i < size; i++) {
+      data.setPlain(i, defaultValue);
+    }
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  private void checkIndex(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    return data.get(index);
+  }
+
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    data.set(index, value);
+  }
+
+  /**
+   * Atomically set the value at index to update if it currently is expect.
+   * Values are compared by reference.
+   *
+   * @param index representing a position in this list.
+   * @param expect value the slot is expected to hold.
+   * @param update new value for the slot.
+   * @return true if the slot held expect and was changed.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public boolean compareAndPut(int index, T expect, T update) throws IndexException {
+    checkIndex(index);
+    return data.compareAndSet(index, expect, update);
+  }
+
+  /**
+   * Atomically replace the value at index with fn applied to it.
+   * fn may be called more than once under contention.
+   *
+   * @param index representing a position in this list.
+   * @param fn side-effect-free function computing the new value.
+   * @return the previous value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public T getAndUpdate(int index, UnaryOperator<T> fn) throws IndexException {
+    checkIndex(index);
+    return data.getAndUpdate(index, fn);
+  }
+
+  /**
+   * Atomically replace the value at index with fn(current, x).
+   * fn may be called more than once under contention.
+   *
+   * @param index representing a position in this list.
+   * @param x second argument of fn.
+   * @param fn side-effect-free function computing the new value.
+   * @return the new value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public T accumulateAndGet(int index, T x, BinaryOperator<T> fn) throws IndexException {
+    checkIndex(index);
+    return data.accumulateAndGet(index, x, fn);
+  }
+
+  @Override
+  public int length() {
+    return data.length();
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, data.length());
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new ConcurrentArrayIndexedListIterator();
+  }
+
+  private class ConcurrentArrayIndexedListIterator implements Iterator<T> {
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < data.length();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T t = data.get(nextIndex);
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
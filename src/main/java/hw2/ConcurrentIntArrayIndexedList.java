@@ -0,0 +1,159 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Thread-safe array implementation of IntIndexedList, meant for
+ * counters that many threads update at once.
+ * Slots live in an AtomicIntegerArray: getInt and putInt have volatile
+ * semantics and the arithmetic updates change one slot atomically.
+ * Iteration is weakly consistent.
+ */
+public class ConcurrentIntArrayIndexedList implements IntIndexedList {
+
+  private final AtomicIntegerArray data;
+
+  /**
+   * Constructs a new ConcurrentIntArrayIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of array, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public ConcurrentIntArrayIndexedList(int size, int defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    data = new AtomicIntegerArray(size);
+
+    // Slots are 0 by default.
+    if (defaultValue == 0) {
+      return;
+    }
+
+    for (int i = 0; i < size; i++) {
+      data.setPlain(i, defaultValue);
+    }
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  private void checkIndex(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+  }
+
+  @Override
+  public int getInt(int index) throws IndexException {
+    checkIndex(index);
+    return data.get(index);
+  }
+
+  @Override
+  public void putInt(int index, int value) throws IndexException {
+    checkIndex(index);
+    data.set(index, value);
+  }
+
+  /**
+   * Atomically set the value at index to update if it currently is expect.
+   *
+   * @param index representing a position in this list.
+   * @param expect value the slot is expected to hold.
+   * @param update new value for the slot.
+   * @return true if the slot held expect and was changed.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public boolean compareAndPut(int index, int expect, int update) throws IndexException {
+    checkIndex(index);
+    return data.compareAndSet(index, expect, update);
+  }
+
+  /**
+   * Atomically add delta to the value at index.
+   *
+   * @param index representing a position in this list.
+   * @param delta amount to add.
+   * @return the new value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public int addAndGet(int index, int delta) throws IndexException {
+    checkIndex(index);
+    return data.addAndGet(index, delta);
+  }
+
+  /**
+   * Atomically replace the value at index with fn applied to it.
+   * fn may be called more than once under contention.
+   *
+   * @param index representing a position in this list.
+   * @param fn side-effect-free function computing the new value.
+   * @return the previous value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public int getAndUpdate(int index, IntUnaryOperator fn) throws IndexException {
+    checkIndex(index);
+    return data.getAndUpdate(index, fn);
+  }
+
+  /**
+   * Atomically replace the value at index with fn(current, x).
+   * fn may be called more than once under contention.
+   *
+   * @param index representing a position in this list.
+   * @param x second argument of fn.
+   * @param fn side-effect-free function computing the new value.
+   * @return the new value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public int accumulateAndGet(int index, int x, IntBinaryOperator fn) throws IndexException {
+    checkIndex(index);
+    return data.accumulateAndGet(index, x, fn);
+  }
+
+  @Override
+  public int length() {
+    return data.length();
+  }
+
+  @Override
+  public Spliterator<Integer> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, data.length());
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new ConcurrentIntArrayIndexedListIterator();
+  }
+
+  private class ConcurrentIntArrayIndexedListIterator implements PrimitiveIterator.OfInt {
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < data.length();
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int t = data.get(nextIndex);
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Thread-safe array implementation of LongIndexedList, meant for
+ * counters that many threads update at once.
+ * Slots live in an AtomicLongArray: getInt and putInt have volatile
+ * semantics and the arithmetic updates change one slot atomically.
+ * Iteration is weakly consistent.
+ */
+public class ConcurrentLongArrayIndexedList implements LongIndexedList {
+
+  private final AtomicLongArray data;
+
+  /**
+   * Constructs a new ConcurrentLongArrayIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of array, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public ConcurrentLongArrayIndexedList(int size, long defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    data = new AtomicLongArray(size);
+
+    // Slots are 0 by default.
+    if (defaultValue == 0) {
+      return;
+    }
+
+    for (int i = 0; i < size; i++) {
+      data.setPlain(i, defaultValue);
+    }
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  private void checkIndex(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+  }
+
+  @Override
+  public long getLong(int index) throws IndexException {
+    checkIndex(index);
+    return data.get(index);
+  }
+
+  @Override
+  public void putLong(int index, long value) throws IndexException {
+    checkIndex(index);
+    data.set(index, value);
+  }
+
+  /**
+   * Atomically set the value at index to update if it currently is expect.
+   *
+   * @param index representing a position in this list.
+   * @param expect value the slot is expected to hold.
+   * @param update new value for the slot.
+   * @return true if the slot held expect and was changed.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public boolean compareAndPut(int index, long expect, long update) throws IndexException {
+    checkIndex(index);
+    return data.compareAndSet(index, expect, update);
+  }
+
+  /**
+   * Atomically add delta to the value at index.
+   *
+   * @param index representing a position in this list.
+   * @param delta amount to add.
+   * @return the new value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public long addAndGet(int index, long delta) throws IndexException {
+    checkIndex(index);
+    return data.addAndGet(index, delta);
+  }
+
+  /**
+   * Atomically replace the value at index with fn applied to it.
+   * fn may be called more than once under contention.
+   *
+   * @param index representing a position in this list.
+   * @param fn side-effect-free function computing the new value.
+   * @return the previous value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public long getAndUpdate(int index, LongUnaryOperator fn) throws IndexException {
+    checkIndex(index);
+    return data.getAndUpdate(index, fn);
+  }
+
+  /**
+   * Atomically replace the value at index with fn(current, x).
+   * fn may be called more than once under contention.
+   *
+   * @param index representing a position in this list.
+   * @param x second argument of fn.
+   * @param fn side-effect-free function computing the new value.
+   * @return the new value.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public long accumulateAndGet(int index, long x, LongBinaryOperator fn) throws IndexException {
+    checkIndex(index);
+    return data.accumulateAndGet(index, x, fn);
+  }
+
+  @Override
+  public int length() {
+    return data.length();
+  }
+
+  @Override
+  public Spliterator<Long> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, data.length());
+  }
+
+  @Override
+  public PrimitiveIterator.OfLong iterator() {
+    return new ConcurrentLongArrayIndexedListIterator();
+  }
+
+  private class ConcurrentLongArrayIndexedListIterator implements PrimitiveIterator.OfLong {
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < data.length();
+    }
+
+    @Override
+    public long nextLong() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      long t = data.get(nextIndex);
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Thread-safe implementation of a SparseList for workloads with many
+ * concurrent writers.
+ * The non-default positions are kept in a ConcurrentSkipListMap, so
+ * reads never block and writers to different positions do not contend
+ * for a lock. Writing defaultValue removes the position, and get of a
+ * position that is not stored returns defaultValue, as in
+ * SparseIndexedList. Iteration is weakly consistent: it reflects some
+ * of the writes made while it runs and never throws because of them.
+ *
+ * @param <T> Element type.
+ */
+public class ConcurrentSparseIndexedList<T> implements SparseList<T> {
+  // Stands in for null values, which the map cannot hold.
+  private static final Object NULL = new Object();
+
+  private final T defaultValue;
+  private final int length;
+  private final ConcurrentSkipListMap<Integer, Object> entries;
+
+  /**
+   * Constructs a new ConcurrentSparseIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public ConcurrentSparseIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    this.length = size;
+    this.defaultValue = defaultValue;
+    this.entries = new ConcurrentSkipListMap<>();
+  }
+
+  /**
+   * Return the length of ConcurrentSparseIndexedList.
+   *
+   * @return length of ConcurrentSparseIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unmask(Object value) {
+    return value == NULL ? null : (T) value;
+  }
+
+  /**
+   * Get the value at certain index without blocking.
+   *
+   * @param index representing a position in this list.
+   * @return stored value, defaultValue if the position is not stored
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    Object value = entries.get(index);
+    return value == null ? defaultValue : unmask(value);
+  }
+
+  /**
+   * Put a value into the list at a certain index.
+   * Writing defaultValue removes the stored position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index) == value
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    if (value == defaultValue) {
+      entries.remove(index);
+    } else {
+      entries.put(index, value == null ? NULL : value);
+    }
+  }
+
+  @Override
+  public T defaultValue() {
+    return defaultValue;
+  }
+
+  /**
+   * Count the stored positions. The count is exact only
+   * while no other thread writes.
+   *
+   * @return number of stored positions
+   */
+  @Override
+  public int nonDefaultCount() {
+    return entries.size();
+  }
+
+  @Override
+  public void forEachNonDefault(IndexValueConsumer<? super T> action) {
+    entries.forEach((index, value) -> action.accept(index, unmask(value)));
+  }
+
+  @Override
+  public int nextNonDefaultIndex(int from) throws IndexException {
+    if (from < 0 || from > length) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+    Integer index = entries.ceilingKey(from);
+    return index == null ? -1 : index;
+  }
+
+  @Override
+  public Iterator<Map.Entry<Integer, T>> nonDefaultEntries() {
+    Iterator<Map.Entry<Integer, Object>> it = entries.entrySet().iterator();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      @Override
+      public Map.Entry<Integer, T> next() {
+        Map.Entry<Integer, Object> entry = it.next();
+        return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), unmask(entry.getValue()));
+      }
+    };
+  }
+
+  /**
+   * Creates a spliterator that splits by index range; get never blocks.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates a weakly consistent iterator for ConcurrentSparseIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new ConcurrentSparseIndexedListIterator();
+  }
+
+  /**
+   * An iterator that walks the cursor from 0 to length - 1 and a
+   * weakly consistent iterator over the stored positions alongside it.
+   */
+  private class ConcurrentSparseIndexedListIterator implements Iterator<T> {
+    private final Iterator<Map.Entry<Integer, Object>> stored = entries.entrySet().iterator();
+    private Map.Entry<Integer, Object> current = stored.hasNext() ? stored.next() : null;
+    private int cursor;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T data = defaultValue;
+      if (current != null && current.getKey() == cursor) {
+        data = unmask(current.getValue());
+        current = stored.hasNext() ? stored.next() : null;
+      }
+      cursor++;
+      return data;
+    }
+  }
+}
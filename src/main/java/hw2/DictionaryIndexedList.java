@@ -0,0 +1,284 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Dictionary-encoded implementation of IndexedList, designed for lists
+ * holding only a few distinct values.
+ * Every distinct value gets a code in a small dictionary and each slot
+ * stores only its code, bit-packed into a long[] at 1, 2, 4, 8, 16 or
+ * 32 bits per slot. The width starts at 1 bit and doubles when a new
+ * value no longer fits, so ten distinct values take 4 bits per slot
+ * instead of a reference. Widths are powers of two, so a code never
+ * straddles two longs and get is a shift and a mask.
+ * Values are told apart by equals, so equal values share one code and
+ * get returns the first instance that was put. Each code counts the slots
+ * holding it; a code no slot holds any more is released and reused by the
+ * next new value, so the width follows the values actually stored.
+ *
+ * @param <T> Element type.
+ */
+public class DictionaryIndexedList<T> implements IndexedList<T> {
+  private static final int MIN_CAPACITY = 4;
+
+  private final int length;
+  private final Map<T, Integer> codes = new HashMap<>();
+  private T[] dictionary;
+  private int[] refCounts;
+  private int[] freeCodes;
+  private int freeCount;
+  private int used;
+  private int cardinality;
+  private long[] bits;
+  private int width;
+
+  /**
+   * Constructs a new DictionaryIndexedList of length size
+   * with default value of defaultValue, encoded as code 0.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  @SuppressWarnings("unchecked")
+  public DictionaryIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    this.length = size;
+    this.dictionary = (T[]) new Object[MIN_CAPACITY];
+    this.refCounts = new int[MIN_CAPACITY];
+    this.freeCodes = new int[MIN_CAPACITY];
+    this.width = 1;
+    this.bits = new long[words(size, width)];
+    add(defaultValue);
+    refCounts[0] = size;
+  }
+
+  /**
+   * Number of longs needed for size codes of the given width.
+   *
+   * @param size number of codes
+   * @param width bits per code
+   * @return the number of longs
+   */
+  private static int words(int size, int width) {
+    return (int) (((long) size * width + Long.SIZE - 1) >>> 6);
+  }
+
+  /**
+   * Read the code of a slot.
+   *
+   * @param bits packed codes
+   * @param width bits per code, a power of two
+   * @param index slot to read
+   * @return the code
+   */
+  private static int read(long[] bits, int width, int index) {
+    long bit = (long) index * width;
+    long mask = -1L >>> (Long.SIZE - width);
+    return (int) ((bits[(int) (bit >>> 6)] >>> (bit & 63)) & mask);
+  }
+
+  /**
+   * Write the code of a slot.
+   *
+   * @param bits packed codes
+   * @param width bits per code, a power of two
+   * @param index slot to write
+   * @param code code to store, expected: it fits into width bits
+   */
+  private static void write(long[] bits, int width, int index, int code) {
+    long bit = (long) index * width;
+    long mask = -1L >>> (Long.SIZE - width);
+    int word = (int) (bit >>> 6);
+    int shift = (int) (bit & 63);
+    bits[word] = bits[word] & ~(mask << shift) | ((code & mask) << shift);
+  }
+
+  /**
+   * Return the length of DictionaryIndexedList.
+   *
+   * @return length of DictionaryIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Number of distinct values held by at least one slot, counting
+   * the default value even when every slot was overwritten.
+   *
+   * @return the count
+   */
+  public int cardinality() {
+    return cardinality;
+  }
+
+  /**
+   * Bits currently used per slot.
+   *
+   * @return 1, 2, 4, 8, 16 or 32
+   */
+  public int bitsPerSlot() {
+    return width;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    return dictionary[read(bits, width, index)];
+  }
+
+  /**
+   * Put a value into the list at a certain index. A value not equal
+   * to any value in the dictionary gets a released code if there is
+   * one, otherwise a new code, which widens every slot when it does
+   * not fit the current width.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index).equals(value)
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    int old = read(bits, width, index);
+    Integer code = codes.get(value);
+    if (code != null && code == old) {
+      return;
+    }
+    // Releasing first lets the value take over the code it replaces.
+    release(old);
+    // add may widen, so it has to run before bits and width are read.
+    int slotCode = code != null ? code : add(value);
+    refCounts[slotCode]++;
+    write(bits, width, index, slotCode);
+  }
+
+  /**
+   * Drop one slot's use of a code, freeing the code when no slot uses
+   * it any more. Code 0, the default value, is never freed.
+   *
+   * @param code code a slot stops using
+   */
+  private void release(int code) {
+    if (--refCounts[code] > 0 || code == 0) {
+      return;
+    }
+    codes.remove(dictionary[code]);
+    dictionary[code] = null;
+    if (freeCount == freeCodes.length) {
+      freeCodes = Arrays.copyOf(freeCodes, freeCount * 2);
+    }
+    freeCodes[freeCount++] = code;
+    cardinality--;
+  }
+
+  /**
+   * Add a value to the dictionary with a reference count of zero.
+   *
+   * @param value value without a code
+   * @return the code of value
+   */
+  private int add(T value) {
+    int code = freeCount > 0 ? freeCodes[--freeCount] : newCode();
+    dictionary[code] = value;
+    codes.put(value, code);
+    cardinality++;
+    return code;
+  }
+
+  /**
+   * Allocate a code never used before, widening the slots if needed.
+   *
+   * @return the new code
+   */
+  private int newCode() {
+    if (used == dictionary.length) {
+      dictionary = Arrays.copyOf(dictionary, used * 2);
+      refCounts = Arrays.copyOf(refCounts, used * 2);
+    }
+    if (width < Integer.SIZE && used == 1 << width) {
+      widen(width * 2);
+    }
+    return used++;
+  }
+
+  /**
+   * Copy every code into a new array of the given width.
+   *
+   * @param newWidth bits per code afterwards
+   */
+  private void widen(int newWidth) {
+    long[] wider = new long[words(length, newWidth)];
+    for (int i = 0; i < length; i++) {
+      write(wider, newWidth, i, read(bits, width, i));
+    }
+    bits = wider;
+    width = newWidth;
+  }
+
+  /**
+   * Creates a spliterator that splits by index range.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates an iterator for DictionaryIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new DictionaryIndexedListIterator();
+  }
+
+  /**
+   * An iterator decoding one slot at a time.
+   */
+  private class DictionaryIndexedListIterator implements Iterator<T> {
+    private int cursor;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T data = dictionary[read(bits, width, cursor)];
+      cursor++;
+      return data;
+    }
+  }
+}
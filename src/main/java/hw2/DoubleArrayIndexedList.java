@@ -0,0 +1,95 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * Array implementation of DoubleIndexedList.
+ * Values live in a double[] so no slot ever holds a boxed Double.
+ */
+public class DoubleArrayIndexedList implements DoubleIndexedList, RandomAccess {
+
+  private double[] data;
+
+  /**
+   * Constructs a new DoubleArrayIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of array, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public DoubleArrayIndexedList(int size, double defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    data = new double[size];
+
+    // Array slots are +0.0 by default; compare bits so -0.0 is still filled.
+    if (Double.doubleToRawLongBits(defaultValue) != 0L) {
+      Arrays.fill(data, defaultValue);
+    }
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  @Override
+  public double getDouble(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    return data[index];
+  }
+
+  @Override
+  public void putDouble(int index, double value) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    data[index] = value;
+  }
+
+  @Override
+  public int length() {
+    return data.length;
+  }
+
+  @Override
+  public Spliterator<Double> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, data.length);
+  }
+
+  @Override
+  public PrimitiveIterator.OfDouble iterator() {
+    return new DoubleArrayIndexedListIterator();
+  }
+
+  private class DoubleArrayIndexedListIterator implements PrimitiveIterator.OfDouble {
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < data.length;
+    }
+
+    @Override
+    public double nextDouble() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      double t = data[nextIndex];
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
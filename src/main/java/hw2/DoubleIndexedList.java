@@ -0,0 +1,64 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.util.PrimitiveIterator;
+
+/**
+ * IndexedList ADT specialized for double elements.
+ * Implementations store unboxed doubles; getDouble/putDouble never allocate.
+ * The inherited get/put methods box and unbox, so an DoubleIndexedList
+ * can still be handed to code that expects an IndexedList of Double.
+ */
+public interface DoubleIndexedList extends IndexedList<Double> {
+
+  /**
+   * Change the value at the given position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.getDouble(index) == value
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  void putDouble(int index, double value) throws IndexException;
+
+  /**
+   * Retrieve the value stored at the given position.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  double getDouble(int index) throws IndexException;
+
+  /**
+   * Boxed view of putDouble.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index, must not be null.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  @Override
+  default void put(int index, Double value) throws IndexException {
+    putDouble(index, value);
+  }
+
+  /**
+   * Boxed view of getDouble.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  @Override
+  default Double get(int index) throws IndexException {
+    return getDouble(index);
+  }
+
+  /**
+   * Iterate over the values without boxing them.
+   *
+   * @return a primitive iterator from index 0 to length() - 1.
+   */
+  @Override
+  PrimitiveIterator.OfDouble iterator();
+}
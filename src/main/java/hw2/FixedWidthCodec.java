@@ -0,0 +1,91 @@
+package hw2;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes values of type T into a fixed number of bytes.
+ * Used by the buffer-backed lists to store elements outside the heap.
+ *
+ * @param <T> the type of the encoded values.
+ */
+public interface FixedWidthCodec<T> {
+
+  /** Codec for Integer values, 4 bytes each. */
+  FixedWidthCodec<Integer> INT = new FixedWidthCodec<>() {
+    @Override
+    public int width() {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public Integer read(ByteBuffer buffer, int offset) {
+      return buffer.getInt(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Integer value) {
+      buffer.putInt(offset, value);
+    }
+  };
+
+  /** Codec for Long values, 8 bytes each. */
+  FixedWidthCodec<Long> LONG = new FixedWidthCodec<>() {
+    @Override
+    public int width() {
+      return Long.BYTES;
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer, int offset) {
+      return buffer.getLong(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Long value) {
+      buffer.putLong(offset, value);
+    }
+  };
+
+  /** Codec for Double values, 8 bytes each. */
+  FixedWidthCodec<Double> DOUBLE = new FixedWidthCodec<>() {
+    @Override
+    public int width() {
+      return Double.BYTES;
+    }
+
+    @Override
+    public Double read(ByteBuffer buffer, int offset) {
+      return buffer.getDouble(offset);
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Double value) {
+      buffer.putDouble(offset, value);
+    }
+  };
+
+  /**
+   * Number of bytes every encoded value occupies.
+   *
+   * @return the width in bytes, expected: width() > 0.
+   */
+  int width();
+
+  /**
+   * Decode the value stored at an absolute position of a buffer.
+   *
+   * @param buffer buffer to read from; its position is not changed.
+   * @param offset byte offset of the first byte of the value.
+   * @return the decoded value.
+   */
+  T read(ByteBuffer buffer, int offset);
+
+  /**
+   * Encode a value at an absolute position of a buffer.
+   *
+   * @param buffer buffer to write to; its position is not changed.
+   * @param offset byte offset of the first byte of the value.
+   * @param value value to encode, exactly width() bytes are written.
+   */
+  void write(ByteBuffer buffer, int offset, T value);
+}
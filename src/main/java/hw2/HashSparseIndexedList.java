@@ -0,0 +1,333 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * An implementation of an IndexedList designed for cases where
+ * only a few positions, scattered over a large length, have distinct
+ * values from the initial value.
+ * The non-default positions are kept in an open-addressing hash table
+ * with int keys and linear probing, so get and put take expected O(1)
+ * regardless of how many positions are stored. Iteration needs the keys
+ * in index order; they are sorted lazily the first time an iterator is
+ * requested after the set of stored positions changed.
+ *
+ * @param <T> Element type.
+ */
+public class HashSparseIndexedList<T> implements SparseList<T> {
+  private static final int EMPTY = -1;
+  private static final int MIN_CAPACITY = 16;
+  private static final int GOLDEN = 0x9E3779B9;
+
+  private final T defaultValue;
+  private final int length;
+  private int[] keys;
+  private T[] values;
+  private int size;
+  // Stored indices in ascending order, null when out of date.
+  private int[] sortedKeys;
+
+  /**
+   * Constructs a new HashSparseIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public HashSparseIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    this.length = size;
+    this.defaultValue = defaultValue;
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * Replace the table with an empty one of the given capacity.
+   *
+   * @param capacity number of slots, a power of two
+   */
+  @SuppressWarnings("unchecked")
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    Arrays.fill(keys, EMPTY);
+    values = (T[]) new Object[capacity];
+  }
+
+  /**
+   * Return the length of HashSparseIndexedList.
+   *
+   * @return length of HashSparseIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  /**
+   * Home slot of an index in the table.
+   *
+   * @param index index to hash
+   * @return slot where probing for index starts
+   */
+  private int home(int index) {
+    int h = index * GOLDEN;
+    return (h ^ (h >>> 16)) & (keys.length - 1);
+  }
+
+  /**
+   * Probe for an index.
+   *
+   * @param index index to look for
+   * @return slot holding index, or the empty slot that ends its probe sequence
+   */
+  private int probe(int index) {
+    int mask = keys.length - 1;
+    int slot = home(index);
+    while (keys[slot] != EMPTY && keys[slot] != index) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Get the value at certain index.
+   *
+   * @param index representing a position in this list.
+   * @return stored value, defaultValue if the position is not stored
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    int slot = probe(index);
+    return keys[slot] == EMPTY ? defaultValue : values[slot];
+  }
+
+  /**
+   * Put a value into the list at a certain index.
+   * Writing defaultValue removes the stored position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index) == value
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    int slot = probe(index);
+    if (keys[slot] != EMPTY) {
+      if (value == defaultValue) {
+        remove(slot);
+      } else {
+        values[slot] = value;
+      }
+    } else if (value != defaultValue) {
+      keys[slot] = index;
+      values[slot] = value;
+      size++;
+      sortedKeys = null;
+      if (size * 2 > keys.length) {
+        rehash(keys.length * 2);
+      }
+    }
+  }
+
+  /**
+   * Empty a slot and shift later entries of the same probe run back
+   * so that no lookup stops early at the hole.
+   *
+   * @param slot slot to empty
+   */
+  private void remove(int slot) {
+    int mask = keys.length - 1;
+    int hole = slot;
+    int next = (hole + 1) & mask;
+    while (keys[next] != EMPTY) {
+      int h = home(keys[next]);
+      // Move the entry if its home is not strictly between hole and next.
+      if (((next - h) & mask) >= ((next - hole) & mask)) {
+        keys[hole] = keys[next];
+        values[hole] = values[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    keys[hole] = EMPTY;
+    values[hole] = null;
+    size--;
+    sortedKeys = null;
+  }
+
+  /**
+   * Move every stored position into a table of the given capacity.
+   *
+   * @param capacity new number of slots, a power of two
+   */
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    T[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        int slot = probe(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Stored indices in ascending order, sorting them if they changed.
+   *
+   * @return sorted indices, exactly size of them
+   */
+  private int[] sortedKeys() {
+    if (sortedKeys == null) {
+      int[] sorted = new int[size];
+      int n = 0;
+      for (int key : keys) {
+        if (key != EMPTY) {
+          sorted[n++] = key;
+        }
+      }
+      Arrays.sort(sorted);
+      sortedKeys = sorted;
+    }
+    return sortedKeys;
+  }
+
+  @Override
+  public T defaultValue() {
+    return defaultValue;
+  }
+
+  @Override
+  public int nonDefaultCount() {
+    return size;
+  }
+
+  /**
+   * Visit the stored positions in index order, sorting the keys first
+   * if they changed since the last in-order traversal.
+   *
+   * @param action receives the index and value of each stored position.
+   */
+  @Override
+  public void forEachNonDefault(IndexValueConsumer<? super T> action) {
+    for (int key : sortedKeys()) {
+      action.accept(key, values[probe(key)]);
+    }
+  }
+
+  @Override
+  public int nextNonDefaultIndex(int from) throws IndexException {
+    if (from < 0 || from > length) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+    int[] sorted = sortedKeys();
+    int slot = Arrays.binarySearch(sorted, from);
+    if (slot < 0) {
+      slot = -slot - 1;
+    }
+    return slot < sorted.length ? sorted[slot] : -1;
+  }
+
+  @Override
+  public Iterator<Map.Entry<Integer, T>> nonDefaultEntries() {
+    int[] sorted = sortedKeys();
+    return new Iterator<>() {
+      private int position;
+
+      @Override
+      public boolean hasNext() {
+        return position < sorted.length;
+      }
+
+      @Override
+      public Map.Entry<Integer, T> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int key = sorted[position++];
+        return new AbstractMap.SimpleImmutableEntry<>(key, values[probe(key)]);
+      }
+    };
+  }
+
+  /**
+   * Creates a spliterator that splits by index range; get is cheap
+   * enough to read every position directly.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates an iterator for HashSparseIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new HashSparseIndexedListIterator(sortedKeys());
+  }
+
+  /**
+   * An iterator that walks the cursor from 0 to length - 1 and
+   * the sorted stored indices alongside it.
+   */
+  private class HashSparseIndexedListIterator implements Iterator<T> {
+    private final int[] order;
+    private int position;
+    private int cursor;
+
+    HashSparseIndexedListIterator(int[] order) {
+      this.order = order;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T data = defaultValue;
+      if (position < order.length && order[position] == cursor) {
+        data = values[probe(cursor)];
+        position++;
+      }
+      cursor++;
+      return data;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package hw2;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a range of positions of an IndexedList with cheap
+ * random access. Splits the range into balanced halves and reads each
+ * position with get, so it suits lists whose get does not walk nodes.
+ *
+ * @param <T> Element type.
+ */
+final class IndexRangeSpliterator<T> implements Spliterator<T> {
+  private final IndexedList<T> list;
+  private int index;
+  private final int fence;
+
+  /**
+   * Constructs a spliterator over positions from (inclusive) to fence (exclusive).
+   *
+   * @param list list to read.
+   * @param from first position.
+   * @param fence one past the last position.
+   */
+  IndexRangeSpliterator(IndexedList<T> list, int from, int fence) {
+    this.list = list;
+    this.index = from;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (index >= fence) {
+      return false;
+    }
+    action.accept(list.get(index));
+    index++;
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    for (; index < fence; index++) {
+      action.accept(list.get(index));
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int mid = (index + fence) >>> 1;
+    if (mid <= index) {
+      return null;
+    }
+    Spliterator<T> prefix = new IndexRangeSpliterator<>(list, index, mid);
+    index = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+}
@@ -0,0 +1,18 @@
+package hw2;
+
+/**
+ * Callback receiving a position of an IndexedList together with its value.
+ *
+ * @param <T> the type of the values.
+ */
+@FunctionalInterface
+public interface IndexValueConsumer<T> {
+
+  /**
+   * Perform this operation on one position.
+   *
+   * @param index position in the list.
+   * @param value value stored at index.
+   */
+  void accept(int index, T value);
+}
@@ -1,6 +1,10 @@
 package hw2;
 
 import exceptions.IndexException;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * IndexedList ADT.
@@ -36,4 +40,180 @@ public interface IndexedList<T> extends Iterable<T> {
    *         Inv: length() >= 0
    */
   int length();
-}
\ No newline at end of file
+
+  /**
+   * Write the same value into every position of a range.
+   *
+   * @param from first position of the range, inclusive.
+   * @param to last position of the range, exclusive.
+   * @param value to be written at every index of the range.
+   *              Post: this.get(i) == value for from <= i < to
+   * @throws IndexException when from < 0, to > length or from > to.
+   */
+  default void fill(int from, int to, T value) throws IndexException {
+    checkRange(from, to - from, length());
+    for (int i = from; i < to; i++) {
+      put(i, value);
+    }
+  }
+
+  /**
+   * Write the elements of an array into consecutive positions.
+   *
+   * @param from position receiving src[0].
+   * @param src values to be written.
+   *            Post: this.get(from + i) == src[i] for 0 <= i < src.length
+   * @throws IndexException when from < 0 or from + src.length > length.
+   */
+  default void putRange(int from, T[] src) throws IndexException {
+    checkRange(from, src.length, length());
+    for (int i = 0; i < src.length; i++) {
+      put(from + i, src[i]);
+    }
+  }
+
+  /**
+   * Read the values of a range into an array.
+   *
+   * @param from first position of the range, inclusive.
+   * @param to last position of the range, exclusive.
+   * @param dst receives this.get(from + i) at dst[i] for 0 <= i < to - from.
+   * @throws IndexException when from < 0, to > length, from > to
+   *                        or dst is shorter than the range.
+   */
+  default void getRange(int from, int to, T[] dst) throws IndexException {
+    checkRange(from, to - from, length());
+    checkRange(0, to - from, dst.length);
+    for (int i = from; i < to; i++) {
+      dst[i - from] = get(i);
+    }
+  }
+
+  /**
+   * Copy a range of another list (or of this list) into this list.
+   * Overlapping ranges of the same list are copied as if through
+   * an intermediate buffer.
+   *
+   * @param src list to copy from.
+   * @param srcFrom first position to copy from src.
+   * @param from position of this list receiving src.get(srcFrom).
+   * @param count number of positions to copy.
+   * @throws IndexException when either range is out of bounds or count < 0.
+   */
+  @SuppressWarnings("unchecked")
+  default void copyFrom(IndexedList<? extends T> src, int srcFrom, int from, int count)
+      throws IndexException {
+    checkRange(srcFrom, count, src.length());
+    checkRange(from, count, length());
+    // The casts are safe since the buffer only ever holds values of src.
+    T[] buffer = (T[]) new Object[count];
+    ((IndexedList<T>) src).getRange(srcFrom, srcFrom + count, buffer);
+    putRange(from, buffer);
+  }
+
+  /**
+   * Creates a spliterator over all positions in index order.
+   * It is ORDERED, SIZED and SUBSIZED; the default splits in halves by
+   * buffering the first half of the iterator, implementations with
+   * cheaper access split by index range instead.
+   *
+   * @return the spliterator
+   */
+  @Override
+  default Spliterator<T> spliterator() {
+    return new BufferingSpliterator<>(iterator(), length());
+  }
+
+  /**
+   * Creates a spliterator over the positions from, ..., to - 1 in index
+   * order, with the same characteristics as spliterator(). The default
+   * reads each position with get unless the range is the whole list;
+   * implementations with a faster traversal start it at from instead.
+   *
+   * @param from first position of the range, inclusive.
+   * @param to last position of the range, exclusive.
+   * @return the spliterator
+   * @throws IndexException when from < 0, to > length or from > to.
+   */
+  default Spliterator<T> spliterator(int from, int to) throws IndexException {
+    checkRange(from, to - from, length());
+    if (from == 0 && to == length()) {
+      return spliterator();
+    }
+    return new IndexRangeSpliterator<>(this, from, to);
+  }
+
+  /**
+   * View of the positions from, ..., to - 1 as a list of length
+   * to - from, created in O(1) without copying. Writes to the view
+   * go to this list and the view sees every write to this list.
+   * Slicing a slice gives a view directly on this list.
+   *
+   * @param from first position of the view, inclusive.
+   * @param to last position of the view, exclusive.
+   * @return the view, with view.get(i) == this.get(from + i).
+   * @throws IndexException when from < 0, to > length or from >= to.
+   */
+  default IndexedList<T> slice(int from, int to) throws IndexException {
+    checkRange(from, to - from, length());
+    if (from == to) {
+      throw new IndexException();
+    }
+    return new SliceView<>(this, from, to - from);
+  }
+
+  /**
+   * Read-only view that applies fn to values as they are read.
+   * Nothing is computed or copied up front; put on the view throws
+   * UnsupportedOperationException.
+   *
+   * @param fn function applied to each value read, on every read.
+   * @param <R> element type of the view.
+   * @return the view, with view.get(i) equal to fn.apply(this.get(i)).
+   */
+  default <R> IndexedList<R> map(Function<? super T, ? extends R> fn) {
+    return new MappedView<>(this, fn);
+  }
+
+  /**
+   * Read-only view of this list; put on the view throws
+   * UnsupportedOperationException while writes to this list show through.
+   *
+   * @return the view.
+   */
+  default IndexedList<T> readOnly() {
+    return map(Function.identity());
+  }
+
+  /**
+   * Sequential stream over all positions in index order.
+   *
+   * @return the stream
+   */
+  default Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Parallel stream over all positions in index order.
+   *
+   * @return the stream
+   */
+  default Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * Check that count positions starting at offset lie within size.
+   *
+   * @param offset first position of the range.
+   * @param count number of positions in the range.
+   * @param size number of valid positions.
+   * @throws IndexException if offset < 0, count < 0 or offset + count > size.
+   */
+  private static void checkRange(int offset, int count, int size) throws IndexException {
+    if (offset < 0 || count < 0 || offset > size - count) {
+      throw new IndexException();
+    }
+  }
+}
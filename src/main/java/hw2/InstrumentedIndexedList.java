@@ -0,0 +1,395 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * An IndexedList that forwards every call to another IndexedList and
+ * records operation counts, get/put latency histograms and the rate of
+ * IndexExceptions. Bulk operations (fill, putRange, getRange, copyFrom)
+ * go to the wrapped list's own implementation and are recorded as one
+ * operation each, with their own count and latency histogram. When the
+ * wrapped list implements TraversalMetrics its node counters are
+ * exposed as well.
+ * Recording costs two System.nanoTime calls and a few LongAdder
+ * increments per operation and allocates nothing, so it can stay on.
+ * The counters are thread-safe; the wrapper is exactly as thread-safe
+ * as the list it wraps.
+ *
+ * @param <T> Element type.
+ */
+public class InstrumentedIndexedList<T> implements IndexedList<T>, InstrumentedIndexedListMBean {
+  private final IndexedList<T> list;
+  private final TraversalMetrics metrics;
+  private final LongAdder gets = new LongAdder();
+  private final LongAdder puts = new LongAdder();
+  private final LongAdder bulks = new LongAdder();
+  private final LongAdder indexExceptions = new LongAdder();
+  private final LatencyHistogram getLatency = new LatencyHistogram();
+  private final LatencyHistogram putLatency = new LatencyHistogram();
+  private final LatencyHistogram bulkLatency = new LatencyHistogram();
+  // nodesVisited of the wrapped list at the last reset.
+  private volatile long nodesVisitedBase;
+
+  /**
+   * Constructs a new InstrumentedIndexedList around list.
+   *
+   * @param list the list receiving every call.
+   */
+  public InstrumentedIndexedList(IndexedList<T> list) {
+    this.list = list;
+    this.metrics = list instanceof TraversalMetrics ? (TraversalMetrics) list : null;
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    long start = System.nanoTime();
+    try {
+      return list.get(index);
+    } catch (IndexException ex) {
+      indexExceptions.increment();
+      throw ex;
+    } finally {
+      getLatency.record(System.nanoTime() - start);
+      gets.increment();
+    }
+  }
+
+  @Override
+  public void put(int index, T value) throws IndexException {
+    long start = System.nanoTime();
+    try {
+      list.put(index, value);
+    } catch (IndexException ex) {
+      indexExceptions.increment();
+      throw ex;
+    } finally {
+      putLatency.record(System.nanoTime() - start);
+      puts.increment();
+    }
+  }
+
+  @Override
+  public void fill(int from, int to, T value) throws IndexException {
+    long start = System.nanoTime();
+    try {
+      list.fill(from, to, value);
+    } catch (IndexException ex) {
+      indexExceptions.increment();
+      throw ex;
+    } finally {
+      bulkDone(start);
+    }
+  }
+
+  @Override
+  public void putRange(int from, T[] src) throws IndexException {
+    long start = System.nanoTime();
+    try {
+      list.putRange(from, src);
+    } catch (IndexException ex) {
+      indexExceptions.increment();
+      throw ex;
+    } finally {
+      bulkDone(start);
+    }
+  }
+
+  @Override
+  public void getRange(int from, int to, T[] dst) throws IndexException {
+    long start = System.nanoTime();
+    try {
+      list.getRange(from, to, dst);
+    } catch (IndexException ex) {
+      indexExceptions.increment();
+      throw ex;
+    } finally {
+      bulkDone(start);
+    }
+  }
+
+  @Override
+  public void copyFrom(IndexedList<? extends T> src, int srcFrom, int from, int count)
+      throws IndexException {
+    long start = System.nanoTime();
+    try {
+      list.copyFrom(src, srcFrom, from, count);
+    } catch (IndexException ex) {
+      indexExceptions.increment();
+      throw ex;
+    } finally {
+      bulkDone(start);
+    }
+  }
+
+  private void bulkDone(long start) {
+    bulkLatency.record(System.nanoTime() - start);
+    bulks.increment();
+  }
+
+  @Override
+  public int length() {
+    return list.length();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return list.iterator();
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return list.spliterator();
+  }
+
+  @Override
+  public Spliterator<T> spliterator(int from, int to) throws IndexException {
+    return list.spliterator(from, to);
+  }
+
+  /**
+   * Histogram of get latencies, shared with this list.
+   *
+   * @return the live histogram.
+   */
+  public LatencyHistogram getLatencies() {
+    return getLatency;
+  }
+
+  /**
+   * Histogram of put latencies, shared with this list.
+   *
+   * @return the live histogram.
+   */
+  public LatencyHistogram putLatencies() {
+    return putLatency;
+  }
+
+  /**
+   * Histogram of bulk operation latencies, shared with this list.
+   *
+   * @return the live histogram.
+   */
+  public LatencyHistogram bulkLatencies() {
+    return bulkLatency;
+  }
+
+  @Override
+  public long getGetCount() {
+    return gets.sum();
+  }
+
+  @Override
+  public long getPutCount() {
+    return puts.sum();
+  }
+
+  @Override
+  public long getBulkCount() {
+    return bulks.sum();
+  }
+
+  @Override
+  public long getIndexExceptionCount() {
+    return indexExceptions.sum();
+  }
+
+  @Override
+  public double getIndexExceptionRate() {
+    long calls = gets.sum() + puts.sum() + bulks.sum();
+    return calls == 0 ? 0 : (double) indexExceptions.sum() / calls;
+  }
+
+  @Override
+  public long getGetLatencyP50() {
+    return getLatency.percentile(50);
+  }
+
+  @Override
+  public long getGetLatencyP99() {
+    return getLatency.percentile(99);
+  }
+
+  @Override
+  public long getPutLatencyP50() {
+    return putLatency.percentile(50);
+  }
+
+  @Override
+  public long getPutLatencyP99() {
+    return putLatency.percentile(99);
+  }
+
+  @Override
+  public long getBulkLatencyP50() {
+    return bulkLatency.percentile(50);
+  }
+
+  @Override
+  public long getBulkLatencyP99() {
+    return bulkLatency.percentile(99);
+  }
+
+  @Override
+  public long getNodesVisited() {
+    return metrics == null ? -1 : metrics.nodesVisited() - nodesVisitedBase;
+  }
+
+  @Override
+  public int getNodeCount() {
+    return metrics == null ? -1 : metrics.nodeCount();
+  }
+
+  @Override
+  public void reset() {
+    gets.reset();
+    puts.reset();
+    bulks.reset();
+    indexExceptions.reset();
+    getLatency.reset();
+    putLatency.reset();
+    bulkLatency.reset();
+    if (metrics != null) {
+      nodesVisitedBase = metrics.nodesVisited();
+    }
+  }
+
+  /**
+   * Copy the current values of every metric.
+   *
+   * @return an immutable snapshot.
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(this);
+  }
+
+  /**
+   * Register this list with the platform MBean server under
+   * hw2:type=InstrumentedIndexedList,name=name.
+   *
+   * @param name distinguishes this list from other registered lists.
+   * @return the name to unregister with.
+   * @throws JMException if the name is taken or invalid.
+   */
+  public ObjectName register(String name) throws JMException {
+    ObjectName objectName = new ObjectName(
+        "hw2:type=InstrumentedIndexedList,name=" + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    return objectName;
+  }
+
+  /**
+   * Values of every metric of an InstrumentedIndexedList at one moment.
+   * Counters are read one after another, so a snapshot taken while
+   * other threads use the list may be slightly inconsistent.
+   */
+  public static final class Snapshot {
+    private final long getCount;
+    private final long putCount;
+    private final long bulkCount;
+    private final long indexExceptionCount;
+    private final long[] getLatencyCounts;
+    private final long[] putLatencyCounts;
+    private final long[] bulkLatencyCounts;
+    private final long nodesVisited;
+    private final int nodeCount;
+
+    private Snapshot(InstrumentedIndexedList<?> source) {
+      getCount = source.getGetCount();
+      putCount = source.getPutCount();
+      bulkCount = source.getBulkCount();
+      indexExceptionCount = source.getIndexExceptionCount();
+      getLatencyCounts = source.getLatency.counts();
+      putLatencyCounts = source.putLatency.counts();
+      bulkLatencyCounts = source.bulkLatency.counts();
+      nodesVisited = source.getNodesVisited();
+      nodeCount = source.getNodeCount();
+    }
+
+    /**
+     * Number of get calls.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+      return getCount;
+    }
+
+    /**
+     * Number of put calls.
+     *
+     * @return the count.
+     */
+    public long putCount() {
+      return putCount;
+    }
+
+    /**
+     * Number of bulk calls: fill, putRange, getRange and copyFrom.
+     *
+     * @return the count.
+     */
+    public long bulkCount() {
+      return bulkCount;
+    }
+
+    /**
+     * Number of calls that threw IndexException.
+     *
+     * @return the count.
+     */
+    public long indexExceptionCount() {
+      return indexExceptionCount;
+    }
+
+    /**
+     * Get latency bucket counts, see LatencyHistogram.counts().
+     *
+     * @return a copy of the counts.
+     */
+    public long[] getLatencyCounts() {
+      return getLatencyCounts.clone();
+    }
+
+    /**
+     * Put latency bucket counts, see LatencyHistogram.counts().
+     *
+     * @return a copy of the counts.
+     */
+    public long[] putLatencyCounts() {
+      return putLatencyCounts.clone();
+    }
+
+    /**
+     * Bulk latency bucket counts, see LatencyHistogram.counts().
+     *
+     * @return a copy of the counts.
+     */
+    public long[] bulkLatencyCounts() {
+      return bulkLatencyCounts.clone();
+    }
+
+    /**
+     * Nodes stepped over by searches since the last reset.
+     *
+     * @return the count, -1 if the wrapped list has no nodes.
+     */
+    public long nodesVisited() {
+      return nodesVisited;
+    }
+
+    /**
+     * Nodes allocated by the wrapped list.
+     *
+     * @return the count, -1 if the wrapped list has no nodes.
+     */
+    public int nodeCount() {
+      return nodeCount;
+    }
+  }
+}
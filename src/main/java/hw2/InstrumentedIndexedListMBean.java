@@ -0,0 +1,105 @@
+package hw2;
+
+/**
+ * JMX management interface of InstrumentedIndexedList.
+ * Latencies are in nanoseconds, see LatencyHistogram for their precision.
+ */
+public interface InstrumentedIndexedListMBean {
+
+  /**
+   * Number of get calls, including those that threw.
+   *
+   * @return the count.
+   */
+  long getGetCount();
+
+  /**
+   * Number of put calls, including those that threw.
+   *
+   * @return the count.
+   */
+  long getPutCount();
+
+  /**
+   * Number of bulk calls (fill, putRange, getRange, copyFrom),
+   * each counted once however many positions it covers.
+   *
+   * @return the count.
+   */
+  long getBulkCount();
+
+  /**
+   * Number of get, put and bulk calls that threw IndexException.
+   *
+   * @return the count.
+   */
+  long getIndexExceptionCount();
+
+  /**
+   * Fraction of get, put and bulk calls that threw IndexException.
+   *
+   * @return the rate in [0, 1], 0 before any call.
+   */
+  double getIndexExceptionRate();
+
+  /**
+   * Median get latency.
+   *
+   * @return nanoseconds.
+   */
+  long getGetLatencyP50();
+
+  /**
+   * 99th percentile get latency.
+   *
+   * @return nanoseconds.
+   */
+  long getGetLatencyP99();
+
+  /**
+   * Median put latency.
+   *
+   * @return nanoseconds.
+   */
+  long getPutLatencyP50();
+
+  /**
+   * 99th percentile put latency.
+   *
+   * @return nanoseconds.
+   */
+  long getPutLatencyP99();
+
+  /**
+   * Median bulk call latency.
+   *
+   * @return nanoseconds.
+   */
+  long getBulkLatencyP50();
+
+  /**
+   * 99th percentile bulk call latency.
+   *
+   * @return nanoseconds.
+   */
+  long getBulkLatencyP99();
+
+  /**
+   * Nodes stepped over by searches of the wrapped list.
+   *
+   * @return the count, -1 if the wrapped list has no nodes.
+   */
+  long getNodesVisited();
+
+  /**
+   * Nodes currently allocated by the wrapped list.
+   *
+   * @return the count, -1 if the wrapped list has no nodes.
+   */
+  int getNodeCount();
+
+  /**
+   * Set every counter and histogram back to zero.
+   */
+  void reset();
+}
@@ -0,0 +1,95 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * Array implementation of IntIndexedList.
+ * Values live in an int[] so no slot ever holds a boxed Integer.
+ */
+public class IntArrayIndexedList implements IntIndexedList, RandomAccess {
+
+  private int[] data;
+
+  /**
+   * Constructs a new IntArrayIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of array, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public IntArrayIndexedList(int size, int defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    data = new int[size];
+
+    // Array slots are 0 by default.
+    if (defaultValue != 0) {
+      Arrays.fill(data, defaultValue);
+    }
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  @Override
+  public int getInt(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    return data[index];
+  }
+
+  @Override
+  public void putInt(int index, int value) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    data[index] = value;
+  }
+
+  @Override
+  public int length() {
+    return data.length;
+  }
+
+  @Override
+  public Spliterator<Integer> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, data.length);
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new IntArrayIndexedListIterator();
+  }
+
+  private class IntArrayIndexedListIterator implements PrimitiveIterator.OfInt {
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < data.length;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int t = data[nextIndex];
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.util.PrimitiveIterator;
+
+/**
+ * IndexedList ADT specialized for int elements.
+ * Implementations store unboxed ints; getInt/putInt never allocate.
+ * The inherited get/put methods box and unbox, so an IntIndexedList
+ * can still be handed to code that expects an IndexedList of Integer.
+ */
+public interface IntIndexedList extends IndexedList<Integer> {
+
+  /**
+   * Change the value at the given position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.getInt(index) == value
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  void putInt(int index, int value) throws IndexException;
+
+  /**
+   * Retrieve the value stored at the given position.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  int getInt(int index) throws IndexException;
+
+  /**
+   * Boxed view of putInt.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index, must not be null.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  @Override
+  default void put(int index, Integer value) throws IndexException {
+    putInt(index, value);
+  }
+
+  /**
+   * Boxed view of getInt.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  @Override
+  default Integer get(int index) throws IndexException {
+    return getInt(index);
+  }
+
+  /**
+   * Iterate over the values without boxing them.
+   *
+   * @return a primitive iterator from index 0 to length() - 1.
+   */
+  @Override
+  PrimitiveIterator.OfInt iterator();
+}
@@ -0,0 +1,125 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Linked (singly linked-list) implementation of IntIndexedList.
+ * Each node holds an unboxed int instead of a reference to an Integer.
+ */
+public class IntLinkedIndexedList implements IntIndexedList {
+
+  private Node head;
+  private int length;
+  // The node found by the last find and its index. Sequential accesses
+  // continue from here instead of restarting at head.
+  private Node finger;
+  private int fingerIndex;
+
+  /**
+   * Constructs a new IntLinkedIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public IntLinkedIndexedList(int size, int defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    length = size;
+
+    for (int i = 0; i < length; i++) {
+      prepend(defaultValue);
+    }
+  }
+
+  // Insert a node at the beginning of the linked list.
+  private void prepend(int t) {
+    Node n = new Node();
+    n.data = t;
+    n.next = head;
+    head = n;
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  // Find the node for a given index, starting at the finger
+  // unless the index lies before it.
+  private Node find(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    Node node = head;
+    int counter = 0;
+    if (finger != null && fingerIndex <= index) {
+      node = finger;
+      counter = fingerIndex;
+    }
+    while (node != null && counter < index) {
+      node = node.next;
+      counter = counter + 1;
+    }
+    finger = node;
+    fingerIndex = index;
+    return node;
+  }
+
+  @Override
+  public int getInt(int index) throws IndexException {
+    Node node = find(index);
+    return node.data;
+  }
+
+  @Override
+  public void putInt(int index, int value) throws IndexException {
+    Node node = find(index);
+    node.data = value;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new IntLinkedIndexedListIterator();
+  }
+
+  private static class Node {
+    int data;
+    Node next;
+  }
+
+  // An iterator to traverse the linked list from front (head) to back.
+  private class IntLinkedIndexedListIterator implements PrimitiveIterator.OfInt {
+    private Node current;
+
+    IntLinkedIndexedListIterator() {
+      current = head;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return current != null;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int t = current.data;
+      current = current.next;
+      return t;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An implementation of IntIndexedList designed for cases where
+ * only a few positions have distinct values from the initial value.
+ * Only the non-default positions are stored, as unboxed ints in a
+ * linked list sorted by index.
+ */
+public class IntSparseIndexedList implements IntIndexedList {
+  private final int defaultValue;
+  private final int length;
+  private Node head;
+  // Last node visited before a searched index. Searches for larger
+  // indices continue from here instead of restarting at head.
+  private Node finger;
+
+  /**
+   * Constructs a new IntSparseIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public IntSparseIndexedList(int size, int defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    this.length = size;
+    this.defaultValue = defaultValue;
+  }
+
+  /**
+   * Return the length of IntSparseIndexedList.
+   *
+   * @return length of IntSparseIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  /**
+   * Find the last node whose index is smaller than the given index,
+   * starting at the finger when it lies before the index.
+   *
+   * @param index index of node
+   * @return the previous node, null if the node would be the new head
+   */
+  private Node traverse(int index) {
+    Node previous = null;
+    Node tracker = head;
+    if (finger != null && finger.index < index) {
+      previous = finger;
+      tracker = finger.next;
+    }
+    while (tracker != null && tracker.index < index) {
+      previous = tracker;
+      tracker = tracker.next;
+    }
+    finger = previous;
+    return previous;
+  }
+
+  /**
+   * Get the value stored at certain index.
+   *
+   * @param index representing a position in this list.
+   * @return stored value, defaultValue if no node has the index
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public int getInt(int index) throws IndexException {
+    checkIndex(index);
+    Node previous = traverse(index);
+    Node tracker = previous == null ? head : previous.next;
+    if (tracker == null || tracker.index != index) {
+      return defaultValue;
+    }
+    return tracker.data;
+  }
+
+  /**
+   * Put a value into the list at a certain index.
+   * Writing defaultValue removes the node for that index.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void putInt(int index, int value) throws IndexException {
+    checkIndex(index);
+    Node previous = traverse(index);
+    Node tracker = previous == null ? head : previous.next;
+    if (tracker != null && tracker.index == index) {
+      if (value == defaultValue) {
+        unlink(previous, tracker);
+      } else {
+        tracker.data = value;
+      }
+    } else if (value != defaultValue) {
+      link(previous, new Node(index, value));
+    }
+  }
+
+  /**
+   * Insert a node after previous, or at the head when previous is null.
+   *
+   * @param previous node before the insertion point
+   * @param node node to insert
+   */
+  private void link(Node previous, Node node) {
+    if (previous == null) {
+      node.next = head;
+      head = node;
+    } else {
+      node.next = previous.next;
+      previous.next = node;
+    }
+  }
+
+  /**
+   * Remove node, which directly follows previous (or is the head).
+   *
+   * @param previous node before the one to remove
+   * @param node node to remove
+   */
+  private void unlink(Node previous, Node node) {
+    if (previous == null) {
+      head = node.next;
+    } else {
+      previous.next = node.next;
+    }
+  }
+
+  /**
+   * Creates an iterator for IntSparseIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new IntSparseIndexedListIterator();
+  }
+
+  /**
+   * A node holding one non-default position.
+   */
+  private static class Node {
+    int data;
+    int index;
+    Node next;
+
+    /**
+     * Constructor of Node.
+     *
+     * @param index index of node
+     * @param data  data of node
+     */
+    Node(int index, int data) {
+      this.data = data;
+      this.index = index;
+    }
+  }
+
+  /**
+   * An implementation of iterator of IntSparseIndexedList.
+   */
+  private class IntSparseIndexedListIterator implements PrimitiveIterator.OfInt {
+    private Node current;
+    private int cursor;
+
+    /**
+     * Constructor of iterator.
+     */
+    IntSparseIndexedListIterator() {
+      current = head;
+    }
+
+    /**
+     * Check whether iterator has next position.
+     *
+     * @return true if cursor between 0 and length-1(inclusive)
+     */
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    /**
+     * Returns value at the cursor, then advances the cursor.
+     *
+     * @return value at the cursor, defaultValue if no node there
+     * @throws NoSuchElementException if cursor is out of bound
+     */
+    @Override
+    public int nextInt() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int data = defaultValue;
+      if (current != null && cursor == current.index) {
+        data = current.data;
+        current = current.next;
+      }
+      cursor++;
+      return data;
+    }
+  }
+}
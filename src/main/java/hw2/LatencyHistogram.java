@@ -0,0 +1,99 @@
+package hw2;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds with power-of-two
+ * buckets. Bucket b counts durations d with 2^(b-1) <= d < 2^b, bucket 0
+ * counts d == 0. Recording is one LongAdder increment and allocates
+ * nothing; percentiles are accurate to within a factor of two.
+ */
+public final class LatencyHistogram {
+  private static final int BUCKETS = Long.SIZE;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+  /**
+   * Constructs an empty histogram.
+   */
+  public LatencyHistogram() {
+    for (int b = 0; b < BUCKETS; b++) {
+      buckets[b] = new LongAdder();
+    }
+  }
+
+  /**
+   * Count one duration; negative durations count as zero.
+   *
+   * @param nanos the duration in nanoseconds.
+   */
+  public void record(long nanos) {
+    buckets[bucket(nanos)].increment();
+  }
+
+  private static int bucket(long nanos) {
+    return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(nanos));
+  }
+
+  /**
+   * Copy the current bucket counts.
+   *
+   * @return counts, index b holding bucket b.
+   */
+  public long[] counts() {
+    long[] counts = new long[BUCKETS];
+    for (int b = 0; b < BUCKETS; b++) {
+      counts[b] = buckets[b].sum();
+    }
+    return counts;
+  }
+
+  /**
+   * Number of durations recorded.
+   *
+   * @return the count.
+   */
+  public long count() {
+    return sum(counts());
+  }
+
+  /**
+   * Upper bound of the bucket holding the given percentile.
+   *
+   * @param percentile in [0, 100].
+   * @return largest duration the bucket can hold, 0 if nothing was recorded.
+   * @throws IllegalArgumentException if percentile is outside [0, 100].
+   */
+  public long percentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be in [0, 100]");
+    }
+    long[] counts = counts();
+    long rank = (long) Math.ceil(sum(counts) * percentile / 100);
+    long seen = 0;
+    for (int b = 0; b < BUCKETS; b++) {
+      seen += counts[b];
+      if (counts[b] > 0 && seen >= rank) {
+        return b == 0 ? 0 : (b == BUCKETS - 1 ? Long.MAX_VALUE : (1L << b) - 1);
+      }
+    }
+    return 0;
+  }
+
+  private static long sum(long[] counts) {
+    long total = 0;
+    for (long c : counts) {
+      total += c;
+    }
+    return total;
+  }
+
+  /**
+   * Reset every bucket to zero.
+   */
+  public void reset() {
+    for (LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+  }
+}
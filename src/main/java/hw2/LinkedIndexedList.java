@@ -4,16 +4,22 @@ import exceptions.IndexException;
 import exceptions.LengthException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 /**
  * Linked (singly linked-list) implementation of IndexedList.
  *
  * @param <T> Element type.
  */
-public class LinkedIndexedList<T> implements IndexedList<T> {
+public class LinkedIndexedList<T> implements IndexedList<T>, TraversalMetrics {
 
   private Node<T> head;
   private int length;
+  // The node found by the last find and its index. Sequential accesses
+  // continue from here instead of restarting at head.
+  private Node<T> finger;
+  private int fingerIndex;
+  private long nodesVisited;
 
   /**
    * Constructs a new LinkedIndexedList of length size
@@ -49,7 +55,8 @@ public class LinkedIndexedList<T> implements IndexedList<T> {
     return index >= 0 && index < length();
   }
 
-  // Find the node for a given index.
+  // Find the node for a given index, starting at the finger
+  // unless the index lies before it.
   private Node<T> find(int index) throws IndexException {
     if (!isValid(index)) {
       throw new IndexException();
@@ -57,10 +64,17 @@ public class LinkedIndexedList<T> implements IndexedList<T> {
 
     Node<T> node = head;
     int counter = 0;
+    if (finger != null && fingerIndex <= index) {
+      node = finger;
+      counter = fingerIndex;
+    }
+    nodesVisited += index - counter;
     while (node != null && counter < index) {
       node = node.next;
       counter = counter + 1;
     }
+    finger = node;
+    fingerIndex = index;
     return node;
   }
 
@@ -81,6 +95,75 @@ public class LinkedIndexedList<T> implements IndexedList<T> {
     return length;
   }
 
+  @Override
+  public long nodesVisited() {
+    return nodesVisited;
+  }
+
+  @Override
+  public int nodeCount() {
+    return length;
+  }
+
+  // Check that count positions starting at offset lie within size.
+  private static void checkRange(int offset, int count, int size) {
+    if (offset < 0 || count < 0 || offset > size - count) {
+      throw new IndexException();
+    }
+  }
+
+  // Writes and reads below walk the range once instead of calling
+  // find for every index.
+
+  @Override
+  public void fill(int from, int to, T value) throws IndexException {
+    checkRange(from, to - from, length);
+    if (from == to) {
+      return;
+    }
+    Node<T> node = find(from);
+    for (int i = from; i < to; i++) {
+      node.data = value;
+      node = node.next;
+    }
+  }
+
+  @Override
+  public void putRange(int from, T[] src) throws IndexException {
+    checkRange(from, src.length, length);
+    if (src.length == 0) {
+      return;
+    }
+    Node<T> node = find(from);
+    for (T t : src) {
+      node.data = t;
+      node = node.next;
+    }
+  }
+
+  @Override
+  public void getRange(int from, int to, T[] dst) throws IndexException {
+    checkRange(from, to - from, length);
+    checkRange(0, to - from, dst.length);
+    if (from == to) {
+      return;
+    }
+    Node<T> node = find(from);
+    for (int i = 0; i < to - from; i++) {
+      dst[i] = node.data;
+      node = node.next;
+    }
+  }
+
+  // Walks to from once, then follows next pointers; get per position
+  // would only be linear thanks to the finger.
+  @Override
+  public Spliterator<T> spliterator(int from, int to) throws IndexException {
+    checkRange(from, to - from, length);
+    Node<T> start = from < to ? find(from) : null;
+    return new BufferingSpliterator<>(new LinkedIndexListIterator(start), to - from);
+  }
+
   @Override
   public Iterator<T> iterator() {
     return new LinkedIndexListIterator();
@@ -101,6 +184,10 @@ public class LinkedIndexedList<T> implements IndexedList<T> {
       current = head;
     }
 
+    LinkedIndexListIterator(Node<T> start) {
+      current = start;
+    }
+
     @Override
     public boolean hasNext() {
       return current != null;
@@ -0,0 +1,95 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * Array implementation of LongIndexedList.
+ * Values live in a long[] so no slot ever holds a boxed Long.
+ */
+public class LongArrayIndexedList implements LongIndexedList, RandomAccess {
+
+  private long[] data;
+
+  /**
+   * Constructs a new LongArrayIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of array, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public LongArrayIndexedList(int size, long defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    data = new long[size];
+
+    // Array slots are 0 by default.
+    if (defaultValue != 0) {
+      Arrays.fill(data, defaultValue);
+    }
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  @Override
+  public long getLong(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    return data[index];
+  }
+
+  @Override
+  public void putLong(int index, long value) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    data[index] = value;
+  }
+
+  @Override
+  public int length() {
+    return data.length;
+  }
+
+  @Override
+  public Spliterator<Long> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, data.length);
+  }
+
+  @Override
+  public PrimitiveIterator.OfLong iterator() {
+    return new LongArrayIndexedListIterator();
+  }
+
+  private class LongArrayIndexedListIterator implements PrimitiveIterator.OfLong {
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < data.length;
+    }
+
+    @Override
+    public long nextLong() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      long t = data[nextIndex];
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
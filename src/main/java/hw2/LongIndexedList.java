@@ -0,0 +1,64 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.util.PrimitiveIterator;
+
+/**
+ * IndexedList ADT specialized for long elements.
+ * Implementations store unboxed longs; getLong/putLong never allocate.
+ * The inherited get/put methods box and unbox, so an LongIndexedList
+ * can still be handed to code that expects an IndexedList of Long.
+ */
+public interface LongIndexedList extends IndexedList<Long> {
+
+  /**
+   * Change the value at the given position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.getLong(index) == value
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  void putLong(int index, long value) throws IndexException;
+
+  /**
+   * Retrieve the value stored at the given position.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  long getLong(int index) throws IndexException;
+
+  /**
+   * Boxed view of putLong.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index, must not be null.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  @Override
+  default void put(int index, Long value) throws IndexException {
+    putLong(index, value);
+  }
+
+  /**
+   * Boxed view of getLong.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  @Override
+  default Long get(int index) throws IndexException {
+    return getLong(index);
+  }
+
+  /**
+   * Iterate over the values without boxing them.
+   *
+   * @return a primitive iterator from index 0 to length() - 1.
+   */
+  @Override
+  PrimitiveIterator.OfLong iterator();
+}
@@ -0,0 +1,147 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A read-only view of another IndexedList that applies a function to
+ * each value when it is read. Iteration wraps the parent's own iterator
+ * and spliterator, so the view traverses as fast as its parent plus one
+ * call of the function per element.
+ *
+ * @param <S> Element type of the parent.
+ * @param <T> Element type of the view.
+ */
+final class MappedView<S, T> implements IndexedList<T> {
+  private final IndexedList<S> parent;
+  private final Function<? super S, ? extends T> fn;
+
+  /**
+   * Constructs a view of parent through fn.
+   *
+   * @param parent list to view.
+   * @param fn function applied to each value read.
+   */
+  MappedView(IndexedList<S> parent, Function<? super S, ? extends T> fn) {
+    this.parent = parent;
+    this.fn = fn;
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    return fn.apply(parent.get(index));
+  }
+
+  /**
+   * Unsupported, the view is read-only.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void put(int index, T value) {
+    throw new UnsupportedOperationException("ERROR: READ-ONLY VIEW");
+  }
+
+  @Override
+  public int length() {
+    return parent.length();
+  }
+
+  @Override
+  public IndexedList<T> slice(int from, int to) throws IndexException {
+    return new MappedView<>(parent.slice(from, to), fn);
+  }
+
+  @Override
+  public <R> IndexedList<R> map(Function<? super T, ? extends R> next) {
+    return new MappedView<S, R>(parent, s -> next.apply(fn.apply(s)));
+  }
+
+  @Override
+  public IndexedList<T> readOnly() {
+    return this;
+  }
+
+  @Override
+  public Spliterator<T> spliterator(int from, int to) throws IndexException {
+    return new MappingSpliterator<>(parent.spliterator(from, to), fn);
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return new MappingSpliterator<>(parent.spliterator(), fn);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    Iterator<S> source = parent.iterator();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return source.hasNext();
+      }
+
+      @Override
+      public T next() {
+        return fn.apply(source.next());
+      }
+    };
+  }
+
+  /**
+   * Applies fn to every element of a source spliterator. It passes
+   * itself to the source as the consumer, so advancing allocates nothing.
+   *
+   * @param <S> Element type of the source.
+   * @param <T> Element type produced.
+   */
+  private static final class MappingSpliterator<S, T> implements Spliterator<T>, Consumer<S> {
+    private final Spliterator<S> source;
+    private final Function<? super S, ? extends T> fn;
+    private Consumer<? super T> action;
+
+    MappingSpliterator(Spliterator<S> source, Function<? super S, ? extends T> fn) {
+      this.source = source;
+      this.fn = fn;
+    }
+
+    @Override
+    public void accept(S s) {
+      action.accept(fn.apply(s));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      this.action = action;
+      return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      this.action = action;
+      source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      Spliterator<S> prefix = source.trySplit();
+      return prefix == null ? null : new MappingSpliterator<>(prefix, fn);
+    }
+
+    @Override
+    public long estimateSize() {
+      return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      // Mapped values may repeat or be null even when the source's are not.
+      return source.characteristics() & ~(DISTINCT | SORTED | NONNULL);
+    }
+  }
+}
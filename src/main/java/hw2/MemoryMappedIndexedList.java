@@ -0,0 +1,149 @@
+package hw2;
+
+import exceptions.LengthException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * File-backed implementation of IndexedList for fixed-width element types.
+ * The data file is memory-mapped: put writes straight into the mapping,
+ * force() makes the writes durable, and reopening an existing file only
+ * maps it again, so startup cost does not depend on the list's length.
+ * Several processes may open the same file read-only at the same time.
+ *
+ * <p>The file holds a 16 byte header (magic, element width, length)
+ * followed by the elements in little-endian order.</p>
+ *
+ * @param <T> Element type.
+ */
+public final class MemoryMappedIndexedList<T> extends OffHeapIndexedList<T> {
+  private static final int MAGIC = 0x49444c31;
+  private static final int HEADER_BYTES = 16;
+
+  private final MappedByteBuffer[] mappings;
+
+  private MemoryMappedIndexedList(long size, FixedWidthCodec<T> codec, MappedByteBuffer[] mappings) {
+    super(size, codec, segmentShift(codec, MAX_SEGMENT_BYTES), mappings);
+    this.mappings = mappings;
+  }
+
+  /**
+   * Create (or overwrite) a data file of length size with every slot
+   * set to defaultValue, and map it for reading and writing.
+   *
+   * @param file path of the data file.
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @param codec codec used to store the elements.
+   * @param <T> Element type.
+   * @return the mapped list.
+   * @throws LengthException if size <= 0.
+   * @throws NullPointerException if defaultValue is null, codecs cannot store null.
+   * @throws IOException if the file cannot be created or mapped.
+   */
+  public static <T> MemoryMappedIndexedList<T> create(Path file, long size, T defaultValue,
+                                                      FixedWidthCodec<T> codec) throws IOException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+    Objects.requireNonNull(defaultValue, "ERROR: DEFAULT VALUE CANNOT BE NULL");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(MAGIC).putInt(codec.width()).putLong(size).flip();
+      channel.write(header, 0);
+      MemoryMappedIndexedList<T> list = new MemoryMappedIndexedList<>(size, codec,
+          map(channel, FileChannel.MapMode.READ_WRITE, size, codec));
+      if (!list.encodesToZero(defaultValue, ByteOrder.LITTLE_ENDIAN)) {
+        for (long i = 0; i < size; i++) {
+          list.put(i, defaultValue);
+        }
+      }
+      return list;
+    }
+  }
+
+  /**
+   * Map an existing data file for reading and writing.
+   *
+   * @param file path of the data file.
+   * @param codec codec the file was created with.
+   * @param <T> Element type.
+   * @return the mapped list.
+   * @throws IOException if the file cannot be mapped or was not created
+   *                     by this class with a codec of the same width.
+   */
+  public static <T> MemoryMappedIndexedList<T> open(Path file, FixedWidthCodec<T> codec)
+      throws IOException {
+    return open(file, codec, FileChannel.MapMode.READ_WRITE);
+  }
+
+  /**
+   * Map an existing data file for reading only; put throws
+   * ReadOnlyBufferException.
+   *
+   * @param file path of the data file.
+   * @param codec codec the file was created with.
+   * @param <T> Element type.
+   * @return the mapped list.
+   * @throws IOException if the file cannot be mapped or was not created
+   *                     by this class with a codec of the same width.
+   */
+  public static <T> MemoryMappedIndexedList<T> openReadOnly(Path file, FixedWidthCodec<T> codec)
+      throws IOException {
+    return open(file, codec, FileChannel.MapMode.READ_ONLY);
+  }
+
+  private static <T> MemoryMappedIndexedList<T> open(Path file, FixedWidthCodec<T> codec,
+                                                     FileChannel.MapMode mode) throws IOException {
+    boolean writable = mode == FileChannel.MapMode.READ_WRITE;
+    try (FileChannel channel = writable
+        ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+        : FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      channel.read(header, 0);
+      header.flip();
+      if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC
+          || header.getInt() != codec.width()) {
+        throw new IOException("ERROR: NOT A LIST FILE FOR THIS CODEC: " + file);
+      }
+      long size = header.getLong();
+      if (size <= 0 || channel.size() < HEADER_BYTES + size * codec.width()) {
+        throw new IOException("ERROR: TRUNCATED LIST FILE: " + file);
+      }
+      return new MemoryMappedIndexedList<>(size, codec, map(channel, mode, size, codec));
+    }
+  }
+
+  private static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long size,
+                                        FixedWidthCodec<?> codec) throws IOException {
+    int shift = segmentShift(codec, MAX_SEGMENT_BYTES);
+    long perSegment = 1L << shift;
+    int count = (int) ((size + perSegment - 1) >>> shift);
+    MappedByteBuffer[] buffers = new MappedByteBuffer[count];
+    for (int s = 0; s < count; s++) {
+      long elements = Math.min(perSegment, size - s * perSegment);
+      long position = HEADER_BYTES + s * perSegment * codec.width();
+      buffers[s] = channel.map(mode, position, elements * codec.width());
+      buffers[s].order(ByteOrder.LITTLE_ENDIAN);
+    }
+    return buffers;
+  }
+
+  /**
+   * Write every modified page of the mapping back to the file.
+   */
+  public void force() {
+    for (MappedByteBuffer mapping : mappings) {
+      if (!mapping.isReadOnly()) {
+        mapping.force();
+      }
+    }
+  }
+}
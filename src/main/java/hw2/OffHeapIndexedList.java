@@ -0,0 +1,245 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * Off-heap implementation of IndexedList for fixed-width element types.
+ * Elements are encoded by a FixedWidthCodec into direct ByteBuffers, so
+ * the data does not live on the GC heap, and positions are addressed by
+ * long indices so a list may hold more than Integer.MAX_VALUE elements.
+ * The data is split over segments of at most 1 GiB each.
+ * The int-indexed IndexedList methods remain available as long as the
+ * index (and, for length(), the length) fits into an int.
+ * Once closed, the segments are dropped and their memory is released by
+ * the buffers' cleaners; the list cannot be used afterwards.
+ *
+ * @param <T> Element type.
+ */
+public class OffHeapIndexedList<T> implements IndexedList<T>, AutoCloseable {
+  static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+  private final FixedWidthCodec<T> codec;
+  private final int width;
+  private final long length;
+  private final int segmentShift;
+  private final long segmentMask;
+  private ByteBuffer[] segments;
+
+  /**
+   * Constructs a new OffHeapIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @param codec codec used to store the elements.
+   * @throws LengthException if size <= 0.
+   * @throws NullPointerException if defaultValue is null, codecs cannot store null.
+   */
+  public OffHeapIndexedList(long size, T defaultValue, FixedWidthCodec<T> codec)
+      throws LengthException {
+    this(size, defaultValue, codec, MAX_SEGMENT_BYTES);
+  }
+
+  /**
+   * Constructs a new OffHeapIndexedList whose segments hold at most
+   * segmentBytes bytes each.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @param codec codec used to store the elements.
+   * @param segmentBytes upper bound for the size of one segment.
+   * @throws LengthException if size <= 0.
+   * @throws NullPointerException if defaultValue is null.
+   */
+  OffHeapIndexedList(long size, T defaultValue, FixedWidthCodec<T> codec, int segmentBytes)
+      throws LengthException {
+    this(size, codec, segmentShift(codec, segmentBytes), null);
+    if (size <= 0) {
+      throw new LengthException();
+    }
+    Objects.requireNonNull(defaultValue, "ERROR: DEFAULT VALUE CANNOT BE NULL");
+    long perSegment = segmentMask + 1;
+    int count = (int) ((size + segmentMask) >>> segmentShift);
+    segments = new ByteBuffer[count];
+    for (int s = 0; s < count; s++) {
+      long elements = Math.min(perSegment, size - s * perSegment);
+      segments[s] = ByteBuffer.allocateDirect((int) elements * width).order(ByteOrder.nativeOrder());
+    }
+    if (!encodesToZero(defaultValue, ByteOrder.nativeOrder())) {
+      for (long i = 0; i < size; i++) {
+        put(i, defaultValue);
+      }
+    }
+  }
+
+  /**
+   * Constructs a list over segments that were set up elsewhere,
+   * for example mapped from a file.
+   *
+   * @param size Length of list.
+   * @param codec codec used to store the elements.
+   * @param segmentShift log2 of the number of elements per segment.
+   * @param segments one buffer per segment, each holding 2^segmentShift
+   *                 elements except possibly the last one.
+   */
+  OffHeapIndexedList(long size, FixedWidthCodec<T> codec, int segmentShift, ByteBuffer[] segments) {
+    this.codec = codec;
+    this.width = codec.width();
+    this.length = size;
+    this.segmentShift = segmentShift;
+    this.segmentMask = (1L << segmentShift) - 1;
+    this.segments = segments;
+  }
+
+  /**
+   * Largest power-of-two element count whose encoding fits into segmentBytes.
+   *
+   * @param codec codec used to store the elements.
+   * @param segmentBytes upper bound for the size of one segment.
+   * @return log2 of the number of elements per segment.
+   */
+  static int segmentShift(FixedWidthCodec<?> codec, int segmentBytes) {
+    return 31 - Integer.numberOfLeadingZeros(Math.max(1, segmentBytes / codec.width()));
+  }
+
+  /**
+   * Check whether value is stored as all zero bytes, the initial
+   * content of a freshly allocated buffer.
+   *
+   * @param value value to check, not null.
+   * @param order byte order the value would be stored in.
+   * @return true if no fill is needed for value.
+   */
+  boolean encodesToZero(T value, ByteOrder order) {
+    ByteBuffer scratch = ByteBuffer.allocate(width).order(order);
+    codec.write(scratch, 0, value);
+    for (int b = 0; b < width; b++) {
+      if (scratch.get(b) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get the declared capacity of this list as a long.
+   *
+   * @return the length
+   */
+  public long longLength() {
+    return length;
+  }
+
+  /**
+   * Get the declared capacity of this list.
+   *
+   * @return the length
+   * @throws LengthException if the length does not fit into an int,
+   *                         use longLength() instead.
+   */
+  @Override
+  public int length() throws LengthException {
+    if (length > Integer.MAX_VALUE) {
+      throw new LengthException("ERROR: LENGTH EXCEEDS INT RANGE, USE longLength()");
+    }
+    return (int) length;
+  }
+
+  private ByteBuffer segment(long index) throws IndexException {
+    if (segments == null) {
+      throw new IllegalStateException("ERROR: LIST IS CLOSED");
+    }
+    if (index < 0 || index >= length) {
+      throw new IndexException();
+    }
+    return segments[(int) (index >>> segmentShift)];
+  }
+
+  private int offset(long index) {
+    return (int) (index & segmentMask) * width;
+  }
+
+  /**
+   * Retrieve the value stored at the given position.
+   *
+   * @param index representing a position in this list.
+   * @return value at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public T get(long index) throws IndexException {
+    return codec.read(segment(index), offset(index));
+  }
+
+  /**
+   * Change the value at the given position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public void put(long index, T value) throws IndexException {
+    codec.write(segment(index), offset(index), value);
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    return get((long) index);
+  }
+
+  @Override
+  public void put(int index, T value) throws IndexException {
+    put((long) index, value);
+  }
+
+  /**
+   * Drop the segments. Their memory is released by the buffers'
+   * cleaners once they are unreachable.
+   */
+  @Override
+  public void close() {
+    segments = null;
+  }
+
+  /**
+   * Creates a spliterator that splits by index range.
+   *
+   * @return the spliterator
+   * @throws LengthException if the length does not fit into an int.
+   */
+  @Override
+  public Spliterator<T> spliterator() throws LengthException {
+    return new IndexRangeSpliterator<>(this, 0, length());
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new OffHeapIndexedListIterator();
+  }
+
+  // An iterator that decodes each segment in order.
+  private class OffHeapIndexedListIterator implements Iterator<T> {
+    private long nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < length;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T t = get(nextIndex);
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * Compressed implementation of IntIndexedList for bounded int data.
+ * Slots are grouped into blocks of 128 with frame-of-reference
+ * encoding: a block keeps its smallest value as a base and stores each
+ * slot as an unsigned offset from the base, bit-packed at the width the
+ * block's largest offset needs (0 to 32 bits). getInt and putInt are
+ * O(1) shifts and masks; a put whose offset does not fit re-encodes
+ * only its own block. A block of equal values takes no bits at all.
+ */
+public class PackedIntIndexedList implements IntIndexedList, RandomAccess {
+  private static final int BLOCK_BITS = 7;
+  private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+  private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+  private static final long[] EMPTY = new long[0];
+
+  private final int length;
+  private final int[] bases;
+  private final byte[] widths;
+  private final long[][] blocks;
+  // Decoded values of the block being re-encoded.
+  private final int[] scratch = new int[BLOCK_SIZE];
+
+  /**
+   * Constructs a new PackedIntIndexedList of length size
+   * with default value of defaultValue, taking no bits per slot.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public PackedIntIndexedList(int size, int defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+    length = size;
+    int blockCount = (int) (((long) size + BLOCK_MASK) >>> BLOCK_BITS);
+    bases = new int[blockCount];
+    widths = new byte[blockCount];
+    blocks = new long[blockCount][];
+    Arrays.fill(bases, defaultValue);
+    Arrays.fill(blocks, EMPTY);
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length;
+  }
+
+  // Read the offset of slot i from a block packed at width bits.
+  private static long extract(long[] bits, int width, int i) {
+    long bit = (long) i * width;
+    int word = (int) (bit >>> 6);
+    int shift = (int) (bit & 63);
+    long offset = bits[word] >>> shift;
+    if (shift + width > Long.SIZE) {
+      offset |= bits[word + 1] << (Long.SIZE - shift);
+    }
+    return offset & (-1L >>> (Long.SIZE - width));
+  }
+
+  // Write the offset of slot i into a block packed at width bits.
+  private static void store(long[] bits, int width, int i, long offset) {
+    long bit = (long) i * width;
+    int word = (int) (bit >>> 6);
+    int shift = (int) (bit & 63);
+    long mask = -1L >>> (Long.SIZE - width);
+    bits[word] = bits[word] & ~(mask << shift) | (offset << shift);
+    if (shift + width > Long.SIZE) {
+      int written = Long.SIZE - shift;
+      bits[word + 1] = bits[word + 1] & ~(mask >>> written) | (offset >>> written);
+    }
+  }
+
+  @Override
+  public int getInt(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+    int b = index >>> BLOCK_BITS;
+    int width = widths[b];
+    // Offsets above Integer.MAX_VALUE wrap around to the right value.
+    return width == 0 ? bases[b] : bases[b] + (int) extract(blocks[b], width, index & BLOCK_MASK);
+  }
+
+  @Override
+  public void putInt(int index, int value) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+    int b = index >>> BLOCK_BITS;
+    int width = widths[b];
+    long offset = (long) value - bases[b];
+    if (width > 0 && offset >= 0 && offset >>> width == 0) {
+      store(blocks[b], width, index & BLOCK_MASK, offset);
+    } else if (offset != 0) {
+      decode(b, scratch);
+      scratch[index & BLOCK_MASK] = value;
+      encode(b, scratch);
+    }
+  }
+
+  /**
+   * Decode every slot of a block, including padding past length.
+   *
+   * @param b block number
+   * @param out receives the BLOCK_SIZE values
+   */
+  private void decode(int b, int[] out) {
+    int base = bases[b];
+    int width = widths[b];
+    long[] bits = blocks[b];
+    if (width == 0) {
+      Arrays.fill(out, base);
+      return;
+    }
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      out[i] = base + (int) extract(bits, width, i);
+    }
+  }
+
+  /**
+   * Pack a block with the smallest base and width that hold its values.
+   *
+   * @param b block number
+   * @param values the BLOCK_SIZE values of the block
+   */
+  private void encode(int b, int[] values) {
+    int min = values[0];
+    int max = values[0];
+    for (int value : values) {
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    int width = Long.SIZE - Long.numberOfLeadingZeros((long) max - min);
+    long[] bits = width == 0 ? EMPTY : new long[width * BLOCK_SIZE / Long.SIZE];
+    for (int i = 0; width > 0 && i < BLOCK_SIZE; i++) {
+      store(bits, width, i, (long) values[i] - min);
+    }
+    bases[b] = min;
+    widths[b] = (byte) width;
+    blocks[b] = bits;
+  }
+
+  /**
+   * Bits used per slot by the block holding index.
+   *
+   * @param index position in the list
+   * @return a width from 0 to 32
+   */
+  int bitsPerSlot(int index) {
+    return widths[index >>> BLOCK_BITS];
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public Spliterator<Integer> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new PackedIntIndexedListIterator();
+  }
+
+  // Decodes a whole block at a time and serves values from the buffer.
+  private class PackedIntIndexedListIterator implements PrimitiveIterator.OfInt {
+    private final int[] buffer = new int[BLOCK_SIZE];
+    private int nextIndex;
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < length;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if ((nextIndex & BLOCK_MASK) == 0) {
+        decode(nextIndex >>> BLOCK_BITS, buffer);
+      }
+      int t = buffer[nextIndex & BLOCK_MASK];
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * An implementation of an IndexedList designed for cases where
+ * only a few regions have distinct values from the initial value.
+ * Works like a page table: a directory points to fixed-size pages and
+ * a page is only allocated on the first non-default put into its range.
+ * A page is released again once every slot in it holds defaultValue,
+ * so memory stays proportional to the regions that were touched while
+ * get is a constant-time directory lookup.
+ *
+ * @param <T> Element type.
+ */
+public class PagedSparseIndexedList<T> implements SparseList<T> {
+  private static final int DEFAULT_PAGE_BITS = 8;
+  private static final int MAX_PAGE_BITS = 30;
+
+  private final T defaultValue;
+  private final int length;
+  private final int pageBits;
+  private final int pageMask;
+  private final T[][] pages;
+  // Number of non-default slots in each allocated page.
+  private final int[] counts;
+  private int total;
+
+  /**
+   * Constructs a new PagedSparseIndexedList of length size
+   * with default value of defaultValue and pages of 256 slots.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public PagedSparseIndexedList(int size, T defaultValue) throws LengthException {
+    this(size, defaultValue, DEFAULT_PAGE_BITS);
+  }
+
+  /**
+   * Constructs a new PagedSparseIndexedList of length size
+   * with default value of defaultValue and pages of 2^pageBits slots.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @param pageBits log2 of the page size, expected: 0 < pageBits <= 30.
+   * @throws LengthException if size <= 0 or pageBits is out of range.
+   */
+  @SuppressWarnings("unchecked")
+  public PagedSparseIndexedList(int size, T defaultValue, int pageBits) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    if (pageBits <= 0 || pageBits > MAX_PAGE_BITS) {
+      throw new LengthException("ERROR: INVALID PAGE SIZE");
+    }
+    this.length = size;
+    this.defaultValue = defaultValue;
+    this.pageBits = pageBits;
+    this.pageMask = (1 << pageBits) - 1;
+    int pageCount = (int) (((long) size + pageMask) >>> pageBits);
+    this.pages = (T[][]) new Object[pageCount][];
+    this.counts = new int[pageCount];
+  }
+
+  /**
+   * Return the length of PagedSparseIndexedList.
+   *
+   * @return length of PagedSparseIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  /**
+   * Get the value at certain index.
+   *
+   * @param index representing a position in this list.
+   * @return stored value, defaultValue if the page is not allocated
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    T[] page = pages[index >>> pageBits];
+    return page == null ? defaultValue : page[index & pageMask];
+  }
+
+  /**
+   * Put a value into the list at a certain index.
+   * Allocates the page on its first non-default value and
+   * releases it when its last non-default value is overwritten.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index) == value
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    int p = index >>> pageBits;
+    T[] page = pages[p];
+    if (page == null) {
+      if (value == defaultValue) {
+        return;
+      }
+      page = allocate(p);
+    }
+    int slot = index & pageMask;
+    int change = (value != defaultValue ? 1 : 0) - (page[slot] != defaultValue ? 1 : 0);
+    counts[p] += change;
+    total += change;
+    page[slot] = value;
+    if (counts[p] == 0) {
+      pages[p] = null;
+    }
+  }
+
+  /**
+   * Allocate page p with every slot set to defaultValue.
+   *
+   * @param p page number
+   * @return the new page
+   */
+  @SuppressWarnings("unchecked")
+  private T[] allocate(int p) {
+    T[] page = (T[]) new Object[pageMask + 1];
+    if (defaultValue != null) {
+      Arrays.fill(page, defaultValue);
+    }
+    pages[p] = page;
+    return page;
+  }
+
+  @Override
+  public T defaultValue() {
+    return defaultValue;
+  }
+
+  @Override
+  public int nonDefaultCount() {
+    return total;
+  }
+
+  /**
+   * Visit the non-default slots of the allocated pages in index order.
+   * Checks every directory entry and scans every slot of each allocated
+   * page, so it costs O(length() / pageSize + allocated pages * pageSize).
+   *
+   * @param action receives the index and value of each stored position.
+   */
+  @Override
+  public void forEachNonDefault(IndexValueConsumer<? super T> action) {
+    for (int p = 0; p < pages.length; p++) {
+      T[] page = pages[p];
+      for (int slot = 0; page != null && slot < page.length; slot++) {
+        if (page[slot] != defaultValue) {
+          action.accept((p << pageBits) + slot, page[slot]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Find the first non-default slot at or after from, skipping
+   * unallocated pages without looking into them. The cost is one
+   * directory check per page passed plus a scan of the slots of the
+   * allocated pages passed, up to O(length() / pageSize + allocated pages * pageSize).
+   *
+   * @param from position to start looking at.
+   * @return the smallest stored index >= from, or -1 if there is none.
+   * @throws IndexException when from < 0 or from > length.
+   */
+  @Override
+  public int nextNonDefaultIndex(int from) throws IndexException {
+    if (from < 0 || from > length) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+    int first = from & pageMask;
+    for (int p = from >>> pageBits; p < pages.length; p++) {
+      T[] page = pages[p];
+      for (int slot = first; page != null && slot < page.length; slot++) {
+        if (page[slot] != defaultValue) {
+          return (p << pageBits) + slot;
+        }
+      }
+      first = 0;
+    }
+    return -1;
+  }
+
+  @Override
+  public Iterator<Map.Entry<Integer, T>> nonDefaultEntries() {
+    return new Iterator<>() {
+      private int nextIndex = nextNonDefaultIndex(0);
+
+      @Override
+      public boolean hasNext() {
+        return nextIndex >= 0;
+      }
+
+      @Override
+      public Map.Entry<Integer, T> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        int index = nextIndex;
+        nextIndex = index + 1 < length ? nextNonDefaultIndex(index + 1) : -1;
+        return new AbstractMap.SimpleImmutableEntry<>(index, get(index));
+      }
+    };
+  }
+
+  /**
+   * Creates a spliterator that splits by index range; get is cheap
+   * enough to read every position directly.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates an iterator for PagedSparseIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new PagedSparseIndexedListIterator();
+  }
+
+  /**
+   * An iterator that reads allocated pages directly and
+   * returns defaultValue across unallocated ones.
+   */
+  private class PagedSparseIndexedListIterator implements Iterator<T> {
+    private int cursor;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T[] page = pages[cursor >>> pageBits];
+      T data = page == null ? defaultValue : page[cursor & pageMask];
+      cursor++;
+      return data;
+    }
+  }
+}
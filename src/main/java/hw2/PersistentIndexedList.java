@@ -0,0 +1,281 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Persistent (immutable) implementation of IndexedList.
+ * Elements are stored in a 32-way bit-partitioned trie. with(index, value)
+ * returns a new version that copies only the O(log32 n) nodes on the
+ * path to index and shares every other node with this version, so old
+ * versions stay valid forever and can be read without locks.
+ * put is not supported; bulk updates go through a Transient, which
+ * edits its own nodes in place and hands out O(1) snapshots.
+ *
+ * @param <T> Element type.
+ */
+public final class PersistentIndexedList<T> implements IndexedList<T> {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private final int length;
+  // Bits to shift an index by to get the slot in the root.
+  private final int shift;
+  private final Node root;
+
+  /**
+   * Constructs a new PersistentIndexedList of length size
+   * with default value of defaultValue.
+   * Every level of the trie is a single node shared by all of its
+   * parent's slots, so construction takes O(log32 n).
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public PersistentIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+    int levels = 0;
+    while ((1L << (levels + BITS)) < size) {
+      levels += BITS;
+    }
+    Object[] leaf = new Object[WIDTH];
+    Arrays.fill(leaf, defaultValue);
+    Node node = new Node(null, leaf);
+    for (int level = BITS; level <= levels; level += BITS) {
+      Object[] children = new Object[WIDTH];
+      Arrays.fill(children, node);
+      node = new Node(null, children);
+    }
+    this.length = size;
+    this.shift = levels;
+    this.root = node;
+  }
+
+  private PersistentIndexedList(int length, int shift, Node root) {
+    this.length = length;
+    this.shift = shift;
+    this.root = root;
+  }
+
+  private static boolean isValid(int index, int length) {
+    return index >= 0 && index < length;
+  }
+
+  // Walk from the root to the leaf holding index.
+  private static Object[] leafFor(Node root, int shift, int index) {
+    Node node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = (Node) node.array[(index >>> level) & MASK];
+    }
+    return node.array;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T read(Node root, int shift, int length, int index) throws IndexException {
+    if (!isValid(index, length)) {
+      throw new IndexException();
+    }
+    return (T) leafFor(root, shift, index)[index & MASK];
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    return read(root, shift, length, index);
+  }
+
+  /**
+   * Return a version of this list with one position changed.
+   * This list is not modified.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: with(index, value).get(index) == value
+   * @return the new version.
+   * @throws IndexException when index < 0 or index >= length.
+   */
+  public PersistentIndexedList<T> with(int index, T value) throws IndexException {
+    if (!isValid(index, length)) {
+      throw new IndexException();
+    }
+    return new PersistentIndexedList<>(length, shift, assoc(root, shift, index, value));
+  }
+
+  // Copy the path from node down to the leaf holding index.
+  private static Node assoc(Node node, int level, int index, Object value) {
+    Node copy = new Node(null, node.array.clone());
+    int slot = (index >>> level) & MASK;
+    if (level == 0) {
+      copy.array[slot] = value;
+    } else {
+      copy.array[slot] = assoc((Node) node.array[slot], level - BITS, index, value);
+    }
+    return copy;
+  }
+
+  /**
+   * Unsupported, a persistent list never changes; use with or a Transient.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void put(int index, T value) {
+    throw new UnsupportedOperationException("ERROR: PERSISTENT LIST, USE with()");
+  }
+
+  /**
+   * Start a mutable transient version of this list for bulk updates.
+   * This list is not affected by writes to the transient.
+   *
+   * @return a transient sharing all nodes with this list.
+   */
+  public Transient<T> asTransient() {
+    return new Transient<>(length, shift, root);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new TrieIterator<>(root, shift, length);
+  }
+
+  // Interior nodes hold child Nodes, leaves hold elements. edit is the
+  // token of the transient allowed to change this node in place, or
+  // null for nodes that belong to persistent versions only.
+  private static final class Node {
+    final Object edit;
+    final Object[] array;
+
+    Node(Object edit, Object[] array) {
+      this.edit = edit;
+      this.array = array;
+    }
+  }
+
+  /**
+   * Mutable version of a PersistentIndexedList for bulk construction.
+   * put changes nodes owned by this transient in place and copies each
+   * shared node at most once. snapshot() returns a persistent version
+   * in O(1); later puts copy again where they touch the snapshot's nodes,
+   * so the snapshot never changes. A transient is not thread-safe.
+   *
+   * @param <T> Element type.
+   */
+  public static final class Transient<T> implements IndexedList<T> {
+    private final int length;
+    private final int shift;
+    private Node root;
+    private Object edit;
+
+    private Transient(int length, int shift, Node root) {
+      this.length = length;
+      this.shift = shift;
+      this.root = root;
+      this.edit = new Object();
+    }
+
+    @Override
+    public T get(int index) throws IndexException {
+      return read(root, shift, length, index);
+    }
+
+    @Override
+    public void put(int index, T value) throws IndexException {
+      if (!isValid(index, length)) {
+        throw new IndexException();
+      }
+      root = editable(root);
+      Node node = root;
+      for (int level = shift; level > 0; level -= BITS) {
+        int slot = (index >>> level) & MASK;
+        Node child = editable((Node) node.array[slot]);
+        node.array[slot] = child;
+        node = child;
+      }
+      node.array[index & MASK] = value;
+    }
+
+    // Return node itself if this transient owns it, else an owned copy.
+    private Node editable(Node node) {
+      return node.edit == edit ? node : new Node(edit, node.array.clone());
+    }
+
+    /**
+     * Freeze the current contents into a persistent version.
+     *
+     * @return the persistent version, in O(1).
+     */
+    public PersistentIndexedList<T> snapshot() {
+      // Give up ownership of every current node so they stay frozen.
+      edit = new Object();
+      return new PersistentIndexedList<>(length, shift, root);
+    }
+
+    @Override
+    public int length() {
+      return length;
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+      return new IndexRangeSpliterator<>(this, 0, length);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new TrieIterator<>(root, shift, length);
+    }
+  }
+
+  // An iterator that looks up each leaf once and then scans it.
+  private static final class TrieIterator<T> implements Iterator<T> {
+    private final Node root;
+    private final int shift;
+    private final int length;
+    private Object[] leaf;
+    private int nextIndex;
+
+    TrieIterator(Node root, int shift, int length) {
+      this.root = root;
+      this.shift = shift;
+      this.length = length;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextIndex < length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if ((nextIndex & MASK) == 0) {
+        leaf = leafFor(root, shift, nextIndex);
+      }
+      T t = (T) leaf[nextIndex & MASK];
+      nextIndex += 1;
+      return t;
+    }
+  }
+}
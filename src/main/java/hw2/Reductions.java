@@ -0,0 +1,327 @@
+package hw2;
+
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Aggregates over numeric IndexedLists: sum, min, max, count and histogram.
+ * Each one picks the cheapest traversal the list supports:
+ * <ul>
+ *   <li>SparseList: closed forms over the stored positions only, counting
+ *       the length - nonDefaultCount() default positions in one step;</li>
+ *   <li>RandomAccess lists: plain index loops over ranges, split across
+ *       the common fork-join pool for long lists;</li>
+ *   <li>anything else: one pass of the list's own iterator, which is
+ *       linear for the linked lists where get would be quadratic.</li>
+ * </ul>
+ * The list must not be modified while a reduction runs.
+ */
+public final class Reductions {
+  // Lists up to this length, and every leaf range, run on the caller's thread.
+  private static final int THRESHOLD = 1 << 13;
+
+  private Reductions() {
+  }
+
+  /**
+   * Sum of all values, without boxing.
+   *
+   * @param list list to sum.
+   * @return the exact sum.
+   */
+  public static long sum(IntIndexedList list) {
+    if (list instanceof RandomAccess) {
+      return overRanges(list.length(), (from, to) -> {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+          sum += list.getInt(i);
+        }
+        return sum;
+      }, Long::sum);
+    }
+    long sum = 0;
+    for (PrimitiveIterator.OfInt it = list.iterator(); it.hasNext(); ) {
+      sum += it.nextInt();
+    }
+    return sum;
+  }
+
+  /**
+   * Smallest value, without boxing.
+   *
+   * @param list list to search.
+   * @return the minimum.
+   */
+  public static int min(IntIndexedList list) {
+    return extreme(list, Math::min, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Largest value, without boxing.
+   *
+   * @param list list to search.
+   * @return the maximum.
+   */
+  public static int max(IntIndexedList list) {
+    return extreme(list, Math::max, Integer.MIN_VALUE);
+  }
+
+  private static int extreme(IntIndexedList list, IntBinaryOperator op, int identity) {
+    if (list instanceof RandomAccess) {
+      return overRanges(list.length(), (from, to) -> {
+        int result = identity;
+        for (int i = from; i < to; i++) {
+          result = op.applyAsInt(result, list.getInt(i));
+        }
+        return result;
+      }, op::applyAsInt);
+    }
+    int result = identity;
+    for (PrimitiveIterator.OfInt it = list.iterator(); it.hasNext(); ) {
+      result = op.applyAsInt(result, it.nextInt());
+    }
+    return result;
+  }
+
+  /**
+   * Sum of all values in double precision.
+   *
+   * @param list list to sum, its values must not be null.
+   * @return the sum.
+   */
+  public static double sum(IndexedList<? extends Number> list) {
+    if (list instanceof SparseList) {
+      SparseList<? extends Number> sparse = (SparseList<? extends Number>) list;
+      double[] sum = new double[1];
+      sparse.forEachNonDefault((index, value) -> sum[0] += value.doubleValue());
+      int defaults = defaults(sparse);
+      return defaults == 0 ? sum[0] : sum[0] + defaults * sparse.defaultValue().doubleValue();
+    }
+    return reduce(list, Double::sum, 0);
+  }
+
+  /**
+   * Smallest value.
+   *
+   * @param list list to search, its values must not be null.
+   * @return the minimum, NaN if any value is NaN.
+   */
+  public static double min(IndexedList<? extends Number> list) {
+    return list instanceof SparseList
+        ? sparseExtreme((SparseList<? extends Number>) list, Math::min, Double.POSITIVE_INFINITY)
+        : reduce(list, Math::min, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Largest value.
+   *
+   * @param list list to search, its values must not be null.
+   * @return the maximum, NaN if any value is NaN.
+   */
+  public static double max(IndexedList<? extends Number> list) {
+    return list instanceof SparseList
+        ? sparseExtreme((SparseList<? extends Number>) list, Math::max, Double.NEGATIVE_INFINITY)
+        : reduce(list, Math::max, Double.NEGATIVE_INFINITY);
+  }
+
+  private static double sparseExtreme(SparseList<? extends Number> sparse, DoubleBinaryOperator op,
+                                      double identity) {
+    double[] result = {defaults(sparse) == 0 ? identity : sparse.defaultValue().doubleValue()};
+    sparse.forEachNonDefault((index, value) -> result[0] = op.applyAsDouble(result[0], value.doubleValue()));
+    return result[0];
+  }
+
+  private static double reduce(IndexedList<? extends Number> list, DoubleBinaryOperator op, double identity) {
+    if (list instanceof RandomAccess) {
+      return overRanges(list.length(), (from, to) -> {
+        double result = identity;
+        for (int i = from; i < to; i++) {
+          result = op.applyAsDouble(result, list.get(i).doubleValue());
+        }
+        return result;
+      }, op::applyAsDouble);
+    }
+    double result = identity;
+    for (Number value : list) {
+      result = op.applyAsDouble(result, value.doubleValue());
+    }
+    return result;
+  }
+
+  /**
+   * Number of positions whose value matches a predicate.
+   * For a SparseList the predicate is tested once for all default positions.
+   *
+   * @param list list to count in.
+   * @param predicate test applied to values.
+   * @param <T> Element type.
+   * @return the number of matching positions.
+   */
+  public static <T> int count(IndexedList<T> list, Predicate<? super T> predicate) {
+    if (list instanceof SparseList) {
+      return sparseCount((SparseList<T>) list, predicate);
+    }
+    if (list instanceof RandomAccess) {
+      return overRanges(list.length(), (from, to) -> {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+          count += predicate.test(list.get(i)) ? 1 : 0;
+        }
+        return count;
+      }, Integer::sum);
+    }
+    int count = 0;
+    for (T value : list) {
+      count += predicate.test(value) ? 1 : 0;
+    }
+    return count;
+  }
+
+  private static <T> int sparseCount(SparseList<T> sparse, Predicate<? super T> predicate) {
+    int defaults = defaults(sparse);
+    int[] count = {defaults > 0 && predicate.test(sparse.defaultValue()) ? defaults : 0};
+    sparse.forEachNonDefault((index, value) -> count[0] += predicate.test(value) ? 1 : 0);
+    return count[0];
+  }
+
+  /**
+   * Count values into equal-width bins over [low, high).
+   * Values outside the range, and NaN, are not counted.
+   *
+   * @param list list to count, its values must not be null.
+   * @param low lower bound of the first bin, inclusive.
+   * @param high upper bound of the last bin, exclusive.
+   * @param bins number of bins.
+   * @return counts, bin b covering [low + b * w, low + (b + 1) * w) with w = (high - low) / bins.
+   * @throws IllegalArgumentException if bins <= 0 or !(low < high).
+   */
+  public static long[] histogram(IndexedList<? extends Number> list, double low, double high, int bins) {
+    if (bins <= 0 || !(low < high)) {
+      throw new IllegalArgumentException("ERROR: INVALID HISTOGRAM RANGE");
+    }
+    Histogram histogram = new Histogram(low, high, bins);
+    if (list instanceof SparseList) {
+      return histogram.sparse((SparseList<? extends Number>) list);
+    }
+    if (list instanceof RandomAccess) {
+      return overRanges(list.length(), (from, to) -> histogram.range(list, from, to), Histogram::merge);
+    }
+    long[] counts = new long[bins];
+    for (Number value : list) {
+      histogram.add(counts, value.doubleValue(), 1);
+    }
+    return counts;
+  }
+
+  private static int defaults(SparseList<?> sparse) {
+    return sparse.length() - sparse.nonDefaultCount();
+  }
+
+  /**
+   * Run leaf over [0, length), split into ranges on the common pool
+   * when length is above THRESHOLD.
+   */
+  private static <R> R overRanges(int length, RangeFunction<R> leaf, BinaryOperator<R> combine) {
+    if (length <= THRESHOLD) {
+      return leaf.apply(0, length);
+    }
+    return ForkJoinPool.commonPool().invoke(new RangeTask<>(leaf, combine, 0, length));
+  }
+
+  /**
+   * Reduction of the positions in [from, to).
+   *
+   * @param <R> result type.
+   */
+  private interface RangeFunction<R> {
+    R apply(int from, int to);
+  }
+
+  /**
+   * Halves its range until it is at most THRESHOLD long and combines
+   * the results of both halves.
+   *
+   * @param <R> result type.
+   */
+  private static final class RangeTask<R> extends RecursiveTask<R> {
+    private static final long serialVersionUID = 1L;
+
+    private final RangeFunction<R> leaf;
+    private final BinaryOperator<R> combine;
+    private final int from;
+    private final int to;
+
+    RangeTask(RangeFunction<R> leaf, BinaryOperator<R> combine, int from, int to) {
+      this.leaf = leaf;
+      this.combine = combine;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected R compute() {
+      if (to - from <= THRESHOLD) {
+        return leaf.apply(from, to);
+      }
+      int mid = (from + to) >>> 1;
+      RangeTask<R> left = new RangeTask<>(leaf, combine, from, mid);
+      left.fork();
+      R right = new RangeTask<>(leaf, combine, mid, to).compute();
+      return combine.apply(left.join(), right);
+    }
+  }
+
+  /**
+   * Bin layout of one histogram call.
+   */
+  private static final class Histogram {
+    private final double low;
+    private final double high;
+    private final int bins;
+
+    Histogram(double low, double high, int bins) {
+      this.low = low;
+      this.high = high;
+      this.bins = bins;
+    }
+
+    void add(long[] counts, double value, long weight) {
+      if (value >= low && value < high) {
+        int bin = (int) ((value - low) / (high - low) * bins);
+        // Rounding can push values just below high into bin == bins.
+        counts[Math.min(bin, bins - 1)] += weight;
+      }
+    }
+
+    long[] sparse(SparseList<? extends Number> list) {
+      long[] counts = new long[bins];
+      int defaults = defaults(list);
+      if (defaults > 0) {
+        add(counts, list.defaultValue().doubleValue(), defaults);
+      }
+      list.forEachNonDefault((index, value) -> add(counts, value.doubleValue(), 1));
+      return counts;
+    }
+
+    long[] range(IndexedList<? extends Number> list, int from, int to) {
+      long[] counts = new long[bins];
+      for (int i = from; i < to; i++) {
+        add(counts, list.get(i).doubleValue(), 1);
+      }
+      return counts;
+    }
+
+    static long[] merge(long[] a, long[] b) {
+      for (int i = 0; i < a.length; i++) {
+        a[i] += b[i];
+      }
+      return a;
+    }
+  }
+}
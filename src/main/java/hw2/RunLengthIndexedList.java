@@ -0,0 +1,322 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * Run-length encoded implementation of IndexedList, designed for lists
+ * made of long runs of the same value.
+ * Run r covers the positions from starts[r] up to the start of run r + 1
+ * (or length) and holds values[r]; neighbouring runs never hold the
+ * same value. get finds a run by binary search, put splits a run and
+ * merges it with its neighbours, and fill replaces a whole range with a
+ * single run, so memory and iteration cost grow with the number of
+ * runs rather than with length.
+ *
+ * @param <T> Element type.
+ */
+public class RunLengthIndexedList<T> implements IndexedList<T> {
+  private static final int MIN_CAPACITY = 8;
+  // A fill stages at most the run before the range, the part of the
+  // first run before from, the new run, the rest of the last run and
+  // the run after the range.
+  private static final int MAX_STAGED = 5;
+
+  private final int length;
+  private int[] starts;
+  private T[] values;
+  private int runs;
+  // Runs replacing the ones touched by the current fill.
+  private final int[] stagedStarts = new int[MAX_STAGED];
+  private final T[] stagedValues = newArray(MAX_STAGED);
+  private int staged;
+
+  /**
+   * Constructs a new RunLengthIndexedList of length size
+   * with default value of defaultValue, held in a single run.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public RunLengthIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    this.length = size;
+    this.starts = new int[MIN_CAPACITY];
+    this.values = newArray(MIN_CAPACITY);
+    this.values[0] = defaultValue;
+    this.runs = 1;
+  }
+
+  /**
+   * Create a value array of the given capacity.
+   *
+   * @param capacity number of slots
+   * @return the new array
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T[] newArray(int capacity) {
+    return (T[]) new Object[capacity];
+  }
+
+  /**
+   * Return the length of RunLengthIndexedList.
+   *
+   * @return length of RunLengthIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Return the number of runs.
+   *
+   * @return the count
+   *         Inv: 1 <= runCount() <= length()
+   */
+  public int runCount() {
+    return runs;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  /**
+   * Check that count positions starting at offset lie within size.
+   *
+   * @param offset first position
+   * @param count number of positions
+   * @param size number of valid positions
+   * @throws IndexException if offset < 0, count < 0 or offset + count > size
+   */
+  private static void checkRange(int offset, int count, int size) throws IndexException {
+    if (offset < 0 || count < 0 || offset > size - count) {
+      throw new IndexException("ERROR: INVALID RANGE");
+    }
+  }
+
+  /**
+   * Find the run holding a valid index.
+   *
+   * @param index position in the list
+   * @return the run number
+   */
+  private int runAt(int index) {
+    int r = Arrays.binarySearch(starts, 0, runs, index);
+    return r >= 0 ? r : -r - 2;
+  }
+
+  /**
+   * Return the first position after run r.
+   *
+   * @param r run number
+   * @return start of the next run, or length for the last run
+   */
+  private int end(int r) {
+    return r + 1 < runs ? starts[r + 1] : length;
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    return values[runAt(index)];
+  }
+
+  /**
+   * Put a value into the list at a certain index, splitting the run
+   * holding it and merging with equal neighbours.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index) == value
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    if (values[runAt(index)] != value) {
+      fill(index, index + 1, value);
+    }
+  }
+
+  /**
+   * Replace every run overlapping [from, to) by a single run,
+   * in O(log r) plus the cost of shifting the runs after it.
+   *
+   * @param from first position to write, inclusive.
+   * @param to end of the range, exclusive.
+   * @param value to be written at every position in the range.
+   * @throws IndexException if from < 0, to > length() or from > to.
+   */
+  @Override
+  public void fill(int from, int to, T value) throws IndexException {
+    checkRange(from, to - from, length);
+    if (from == to) {
+      return;
+    }
+    int first = runAt(from);
+    int last = runAt(to - 1);
+    stageRange(first, last, from, to, value);
+    splice(Math.max(first - 1, 0), Math.min(last + 2, runs));
+  }
+
+  /**
+   * Stage the runs that replace runs first..last and their neighbours
+   * once [from, to) holds value.
+   *
+   * @param first run holding from
+   * @param last run holding to - 1
+   * @param from first position written
+   * @param to end of the positions written, exclusive
+   * @param value value written
+   */
+  private void stageRange(int first, int last, int from, int to, T value) {
+    staged = 0;
+    if (first > 0) {
+      stage(starts[first - 1], values[first - 1]);
+    }
+    if (starts[first] < from) {
+      stage(starts[first], values[first]);
+    }
+    stage(from, value);
+    if (to < end(last)) {
+      stage(to, values[last]);
+    }
+    if (last + 1 < runs) {
+      stage(starts[last + 1], values[last + 1]);
+    }
+  }
+
+  /**
+   * Append a run to the staged runs, merging it into the previous
+   * staged run if both hold the same value.
+   *
+   * @param start first position of the run
+   * @param value value of the run
+   */
+  private void stage(int start, T value) {
+    if (staged > 0 && stagedValues[staged - 1] == value) {
+      return;
+    }
+    stagedStarts[staged] = start;
+    stagedValues[staged] = value;
+    staged++;
+  }
+
+  /**
+   * Replace runs [lo, hi) by the staged runs. The arrays grow when
+   * full and shrink once they are less than a quarter full.
+   *
+   * @param lo first run to replace
+   * @param hi end of the runs to replace, exclusive
+   */
+  private void splice(int lo, int hi) {
+    int newRuns = runs - (hi - lo) + staged;
+    if (newRuns > starts.length) {
+      resize(Math.max(starts.length * 2, newRuns));
+    }
+    System.arraycopy(starts, hi, starts, lo + staged, runs - hi);
+    System.arraycopy(values, hi, values, lo + staged, runs - hi);
+    System.arraycopy(stagedStarts, 0, starts, lo, staged);
+    System.arraycopy(stagedValues, 0, values, lo, staged);
+    Arrays.fill(stagedValues, null);
+    if (newRuns < runs) {
+      Arrays.fill(values, newRuns, runs, null);
+    }
+    runs = newRuns;
+    if (starts.length > MIN_CAPACITY && runs < starts.length / 4) {
+      resize(starts.length / 2);
+    }
+  }
+
+  /**
+   * Move the runs into arrays of the given capacity.
+   *
+   * @param capacity new capacity, expected: capacity >= runs
+   */
+  private void resize(int capacity) {
+    starts = Arrays.copyOf(starts, capacity);
+    values = Arrays.copyOf(values, capacity);
+  }
+
+  /**
+   * Copy a range into dst one run at a time.
+   *
+   * @param from first position to read, inclusive.
+   * @param to end of the range, exclusive.
+   * @param dst receives get(from + i) at dst[i].
+   * @throws IndexException if the range is invalid or dst is too short.
+   */
+  @Override
+  public void getRange(int from, int to, T[] dst) throws IndexException {
+    checkRange(from, to - from, length);
+    checkRange(0, to - from, dst.length);
+    int i = from;
+    for (int r = from < to ? runAt(from) : runs; i < to; r++) {
+      int stop = Math.min(to, end(r));
+      Arrays.fill(dst, i - from, stop - from, values[r]);
+      i = stop;
+    }
+  }
+
+  /**
+   * Creates a spliterator that splits by index range.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates an iterator for RunLengthIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new RunLengthIndexedListIterator();
+  }
+
+  /**
+   * An iterator that repeats the value of each run until its end.
+   */
+  private class RunLengthIndexedListIterator implements Iterator<T> {
+    private int cursor;
+    private int run;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (cursor == end(run)) {
+        run++;
+      }
+      cursor++;
+      return values[run];
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A window of consecutive positions of another IndexedList.
+ * Every call shifts its indices by the window's offset and goes to the
+ * parent list, so the view costs O(1) to create and never copies.
+ * Traversal uses the parent's range spliterator, so a view over a
+ * linked or sparse list walks nodes instead of calling get.
+ *
+ * @param <T> Element type.
+ */
+final class SliceView<T> implements IndexedList<T> {
+  private final IndexedList<T> parent;
+  private final int offset;
+  private final int length;
+
+  /**
+   * Constructs a view of positions offset, ..., offset + length - 1.
+   *
+   * @param parent list to view.
+   * @param offset first position of parent in the view.
+   * @param length number of positions, expected: a valid range of parent.
+   */
+  SliceView(IndexedList<T> parent, int offset, int length) {
+    this.parent = parent;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length) {
+      throw new IndexException();
+    }
+  }
+
+  // Check that count positions starting at from lie within size.
+  private static void checkRange(int from, int count, int size) throws IndexException {
+    if (from < 0 || count < 0 || from > size - count) {
+      throw new IndexException();
+    }
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    return parent.get(offset + index);
+  }
+
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    parent.put(offset + index, value);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public void fill(int from, int to, T value) throws IndexException {
+    checkRange(from, to - from, length);
+    parent.fill(offset + from, offset + to, value);
+  }
+
+  @Override
+  public void putRange(int from, T[] src) throws IndexException {
+    checkRange(from, src.length, length);
+    parent.putRange(offset + from, src);
+  }
+
+  @Override
+  public void getRange(int from, int to, T[] dst) throws IndexException {
+    checkRange(from, to - from, length);
+    parent.getRange(offset + from, offset + to, dst);
+  }
+
+  @Override
+  public IndexedList<T> slice(int from, int to) throws IndexException {
+    checkRange(from, to - from, length);
+    if (from == to) {
+      throw new IndexException();
+    }
+    return new SliceView<>(parent, offset + from, to - from);
+  }
+
+  @Override
+  public Spliterator<T> spliterator(int from, int to) throws IndexException {
+    checkRange(from, to - from, length);
+    return parent.spliterator(offset + from, offset + to);
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return parent.spliterator(offset, offset + length);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+}
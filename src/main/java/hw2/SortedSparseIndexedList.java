@@ -0,0 +1,271 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * An implementation of an IndexedList designed for cases where
+ * only a few positions have distinct values from the initial value.
+ * The non-default positions are kept in a sorted int[] of indices with
+ * a parallel array of values, so get and put locate a position by
+ * binary search in O(log k) instead of walking a chain of nodes.
+ *
+ * @param <T> Element type.
+ */
+public class SortedSparseIndexedList<T> implements SparseList<T> {
+  private static final int MIN_CAPACITY = 8;
+
+  private final T defaultValue;
+  private final int length;
+  private int[] indices;
+  private T[] values;
+  private int size;
+
+  /**
+   * Constructs a new SortedSparseIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public SortedSparseIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException("ERROR: SIZE CANNOT <= 0");
+    }
+    this.length = size;
+    this.defaultValue = defaultValue;
+    this.indices = new int[MIN_CAPACITY];
+    this.values = newArray(MIN_CAPACITY);
+  }
+
+  /**
+   * Create a value array of the given capacity.
+   *
+   * @param capacity number of slots
+   * @return the new array
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T[] newArray(int capacity) {
+    return (T[]) new Object[capacity];
+  }
+
+  /**
+   * Return the length of SortedSparseIndexedList.
+   *
+   * @return length of SortedSparseIndexedList
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Check whether index is in bound.
+   *
+   * @param index index to be checked
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  private void checkIndex(int index) throws IndexException {
+    if (index < 0 || index >= length()) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+  }
+
+  /**
+   * Binary search for an index among the stored positions.
+   *
+   * @param index index to search for
+   * @return slot of index if stored, otherwise (-(insertion point) - 1)
+   */
+  private int search(int index) {
+    return Arrays.binarySearch(indices, 0, size, index);
+  }
+
+  /**
+   * Get the value at certain index.
+   *
+   * @param index representing a position in this list.
+   * @return stored value, defaultValue if the position is not stored
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public T get(int index) throws IndexException {
+    checkIndex(index);
+    int slot = search(index);
+    return slot >= 0 ? values[slot] : defaultValue;
+  }
+
+  /**
+   * Put a value into the list at a certain index.
+   * Writing defaultValue removes the stored position.
+   *
+   * @param index representing a position in this list.
+   * @param value to be written at the given index.
+   *              Post: this.get(index) == value
+   * @throws IndexException if index < 0 or index >= length()
+   */
+  @Override
+  public void put(int index, T value) throws IndexException {
+    checkIndex(index);
+    int slot = search(index);
+    if (slot >= 0) {
+      if (value == defaultValue) {
+        remove(slot);
+      } else {
+        values[slot] = value;
+      }
+    } else if (value != defaultValue) {
+      insert(-slot - 1, index, value);
+    }
+  }
+
+  /**
+   * Insert a position at slot, shifting the tail one slot to the right.
+   *
+   * @param slot insertion point
+   * @param index index to store
+   * @param value value to store
+   */
+  private void insert(int slot, int index, T value) {
+    if (size == indices.length) {
+      resize(indices.length * 2);
+    }
+    System.arraycopy(indices, slot, indices, slot + 1, size - slot);
+    System.arraycopy(values, slot, values, slot + 1, size - slot);
+    indices[slot] = index;
+    values[slot] = value;
+    size++;
+  }
+
+  /**
+   * Remove the position at slot, shifting the tail one slot to the left.
+   * The arrays shrink once they are less than a quarter full.
+   *
+   * @param slot slot to remove
+   */
+  private void remove(int slot) {
+    size--;
+    System.arraycopy(indices, slot + 1, indices, slot, size - slot);
+    System.arraycopy(values, slot + 1, values, slot, size - slot);
+    values[size] = null;
+    if (indices.length > MIN_CAPACITY && size < indices.length / 4) {
+      resize(indices.length / 2);
+    }
+  }
+
+  /**
+   * Move the stored positions into arrays of the given capacity.
+   *
+   * @param capacity new capacity, expected: capacity >= size
+   */
+  private void resize(int capacity) {
+    indices = Arrays.copyOf(indices, capacity);
+    values = Arrays.copyOf(values, capacity);
+  }
+
+  @Override
+  public T defaultValue() {
+    return defaultValue;
+  }
+
+  @Override
+  public int nonDefaultCount() {
+    return size;
+  }
+
+  @Override
+  public void forEachNonDefault(IndexValueConsumer<? super T> action) {
+    for (int slot = 0; slot < size; slot++) {
+      action.accept(indices[slot], values[slot]);
+    }
+  }
+
+  @Override
+  public int nextNonDefaultIndex(int from) throws IndexException {
+    if (from < 0 || from > length) {
+      throw new IndexException("ERROR: INVALID INDEX");
+    }
+    int slot = search(from);
+    if (slot < 0) {
+      slot = -slot - 1;
+    }
+    return slot < size ? indices[slot] : -1;
+  }
+
+  @Override
+  public Iterator<Map.Entry<Integer, T>> nonDefaultEntries() {
+    return new Iterator<>() {
+      private int slot;
+
+      @Override
+      public boolean hasNext() {
+        return slot < size;
+      }
+
+      @Override
+      public Map.Entry<Integer, T> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        slot++;
+        return new AbstractMap.SimpleImmutableEntry<>(indices[slot - 1], values[slot - 1]);
+      }
+    };
+  }
+
+  /**
+   * Creates a spliterator that splits by index range; get is cheap
+   * enough to read every position directly.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexRangeSpliterator<>(this, 0, length);
+  }
+
+  /**
+   * Creates an iterator for SortedSparseIndexedList.
+   *
+   * @return the iterator
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new SortedSparseIndexedListIterator();
+  }
+
+  /**
+   * An iterator that walks the cursor from 0 to length - 1 and
+   * the stored positions alongside it.
+   */
+  private class SortedSparseIndexedListIterator implements Iterator<T> {
+    private int slot;
+    private int cursor;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < length;
+    }
+
+    @Override
+    public T next() throws NoSuchElementException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T data = defaultValue;
+      if (slot < size && indices[slot] == cursor) {
+        data = values[slot];
+        slot++;
+      }
+      cursor++;
+      return data;
+    }
+  }
+}
@@ -2,8 +2,13 @@ package hw2;
 
 import exceptions.IndexException;
 import exceptions.LengthException;
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 
 /**
@@ -12,10 +17,15 @@ import java.util.NoSuchElementException;
  *
  * @param <T> Element type.
  */
-public class SparseIndexedList<T> implements IndexedList<T> {
+public class SparseIndexedList<T> implements SparseList<T>, TraversalMetrics {
   private final T defaultValue;
   private final int length;
   private Node<T> head;
+  private int size;
+  // Last node visited before a searched index, never a deleted node.
+  // Searches for larger indices continue from here instead of head.
+  private Node<T> finger;
+  private long nodesVisited;
   
   /**
    * Constructs a new SparseIndexedList of length size
@@ -43,6 +53,16 @@ public class SparseIndexedList<T> implements IndexedList<T> {
     return length;
   }
   
+  /**
+   * Return the value of every position without a node.
+   *
+   * @return defaultValue of SparseIndexedList
+   */
+  @Override
+  public T defaultValue() {
+    return defaultValue;
+  }
+  
   /**
    * Check whether a node has next (valid) node.
    *
@@ -61,25 +81,11 @@ public class SparseIndexedList<T> implements IndexedList<T> {
    * @throws IndexException when index < 0 or index >= length()
    */
   private Node<T> find(int index) throws IndexException {
-    checkIndex(index);
-    Node<T> tracker = head;
-    // List is empty
-    if (head == null) {
-      return null;
-    }
-    
-    // Proceed when index of tracker is smaller
-    while (tracker.index < length) {
-      // Found
-      if (tracker.index == index) {
-        return tracker;
-      }
-      // Proceed to next valid node
-      if (hasNextNode(tracker)) {
-        tracker = tracker.next;
-        continue;
-      }
-      break;
+    Node<T> previous = traverse(index);
+    Node<T> tracker = previous == null ? head : previous.next;
+    // Found
+    if (tracker != null && tracker.index == index) {
+      return tracker;
     }
     // Not found
     return null;
@@ -125,88 +131,371 @@ public class SparseIndexedList<T> implements IndexedList<T> {
    */
   @Override
   public void put(int index, T value) throws IndexException {
-    Node<T> tracker = find(index);
-    // No node with give index
-    if (tracker == null) {
-      if (value == defaultValue) {
-        // Do nothing
-      } else {
-        addNode(index, value);
+    putAfter(traverse(index), index, value);
+  }
+  
+  /**
+   * Write a batch of values in one pass over the list.
+   * The batch is sorted by index and merged into the nodes from front
+   * to back, so k writes cost O(n + k log k) instead of a walk each.
+   * Writing defaultValue removes the node at that index. When an index
+   * occurs more than once, its last value in the batch is kept.
+   * Nothing is written if any index is invalid.
+   *
+   * @param indices positions to write.
+   * @param values values[i] is written at indices[i].
+   *               Post: this.get(indices[i]) == values[i] for the last such i
+   * @throws LengthException if indices and values differ in length.
+   * @throws IndexException if any index < 0 or index >= length()
+   */
+  public void putAll(int[] indices, T[] values) throws LengthException, IndexException {
+    if (indices.length != values.length) {
+      throw new LengthException("ERROR: BATCH LENGTHS DIFFER");
+    }
+    long[] batch = sortBatch(indices);
+    Node<T> previous = null;
+    for (int i = 0; i < batch.length; i++) {
+      int index = (int) (batch[i] >>> Integer.SIZE);
+      if (i + 1 == batch.length || (int) (batch[i + 1] >>> Integer.SIZE) != index) {
+        previous = putAfter(advance(previous, index), index, values[(int) batch[i]]);
       }
-    } else {
+    }
+    // The old finger may have been deleted above.
+    finger = previous;
+  }
+
+  /**
+   * Helper for putAll(), check every index and sort the batch.
+   *
+   * @param indices positions to write
+   * @return index in the high half and batch position in the low half
+   *         of each entry, sorted, so writes to one index stay in order
+   * @throws IndexException if any index < 0 or index >= length()
+   */
+  private long[] sortBatch(int[] indices) throws IndexException {
+    long[] batch = new long[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      checkIndex(indices[i]);
+      batch[i] = (long) indices[i] << Integer.SIZE | i;
+    }
+    Arrays.sort(batch);
+    return batch;
+  }
+
+  /**
+   * Helper for putAll(), walk forward from a node to the last node before index.
+   *
+   * @param previous node to start from, null to start at head
+   * @param index index to stop before, expected: not before previous
+   * @return the last node before index, null if there is none
+   */
+  private Node<T> advance(Node<T> previous, int index) {
+    Node<T> tracker = previous == null ? head : previous.next;
+    while (tracker != null && tracker.index < index) {
+      previous = tracker;
+      tracker = tracker.next;
+      nodesVisited++;
+    }
+    return previous;
+  }
+
+  /**
+   * Helper for put(), write a value given the last node before its index.
+   *
+   * @param previous the last node before index, null if there is none
+   * @param index index to write
+   * @param value value to write
+   * @return the last node at or before index afterwards
+   */
+  private Node<T> putAfter(Node<T> previous, int index, T value) {
+    Node<T> tracker = previous == null ? head : previous.next;
+    // No node with given index
+    if (tracker == null || tracker.index != index) {
       if (value == defaultValue) {
-        deleteNode(index);
-      } else {
-        // Modify value
-        tracker.data = value;
+        return previous;
       }
+      Node<T> newNode = new Node<>(index, value);
+      addNode(previous, newNode);
+      return newNode;
     }
+    if (value == defaultValue) {
+      deleteNode(previous, tracker);
+      return previous;
+    }
+    // Modify value
+    tracker.data = value;
+    return tracker;
   }
   
   /**
-   * Helper for put(), do specific job to insert node.
+   * Helper for put(), link a new node into the list.
    *
-   * @param index index at which to be inserted
-   * @param value value of inserted node
+   * @param previous node after which to insert, null to insert at head
+   * @param newNode node to be inserted
    */
-  private void addNode(int index, T value) {
-    // Find the node before target
-    Node<T> target = traverse(index);
-    
-    Node<T> newNode = new Node<>(index, value);
-    
-    // When node is after head
-    if (target == null || target.index > index) {
-      // List is not empty
-      if (head != null) {
-        newNode.next = head;
-      }
+  private void addNode(Node<T> previous, Node<T> newNode) {
+    size++;
+    if (previous == null) {
+      newNode.next = head;
       head = newNode;
     } else {
-      target.next = newNode;
+      newNode.next = previous.next;
+      previous.next = newNode;
     }
   }
   
   /**
-   * Find the previous node of given index, in order to modify the node at index.
+   * Find the last node before given index, in order to modify the node at index.
+   * The search continues from the finger when the finger lies before index,
+   * so sequential accesses only walk the nodes between two calls.
    *
    * @param index index of node
-   * @return the previous node, null if list is empty
+   * @return the previous node, null if no node comes before index
+   * @throws IndexException if index < 0 or index >= length()
    */
   private Node<T> traverse(int index) throws IndexException {
     checkIndex(index);
+    Node<T> previous = null;
     Node<T> tracker = head;
-    // List is empty
-    if (tracker == null) {
-      return null;
+    if (finger != null && finger.index < index) {
+      previous = finger;
+      tracker = finger.next;
     }
-    // Proceed while next node is valid
-    while (hasNextNode(tracker)) {
-      // Stop and return
-      if (tracker.next.index >= index) {
-        return tracker;
-      }
-      // Proceed to next node
+    // Proceed while next node is before index
+    while (tracker != null && tracker.index < index) {
+      previous = tracker;
       tracker = tracker.next;
+      nodesVisited++;
     }
-    return tracker;
+    finger = previous;
+    return previous;
   }
   
   /**
-   * Delete a node at given index.
+   * Unlink a node from the list.
    *
-   * @param index index of node to be deleted
+   * @param previous node before the one to delete, null if it is head
+   * @param node node to be deleted
    */
-  private void deleteNode(int index) {
-    // Find node before target
-    Node<T> tracker = traverse(index);
-    
-    // Empty list or first node
-    if (tracker == null || tracker == head) {
-      head = null;
+  private void deleteNode(Node<T> previous, Node<T> node) {
+    size--;
+    if (previous == null) {
+      head = node.next;
+    } else {
+      previous.next = node.next;
+    }
+  }
+  
+  /**
+   * Check that count positions starting at offset lie within size.
+   *
+   * @param offset first position of the range
+   * @param count number of positions in the range
+   * @param size number of valid positions
+   * @throws IndexException if offset < 0, count < 0 or offset + count > size
+   */
+  private static void checkRange(int offset, int count, int size) throws IndexException {
+    if (offset < 0 || count < 0 || offset > size - count) {
+      throw new IndexException("ERROR: INVALID RANGE");
+    }
+  }
+  
+  /**
+   * Write the same value into a range by splicing out the nodes in
+   * the range and, unless value is defaultValue, linking in a new run.
+   *
+   * @param from first position of the range, inclusive.
+   * @param to last position of the range, exclusive.
+   * @param value to be written at every index of the range.
+   * @throws IndexException when from < 0, to > length or from > to.
+   */
+  @Override
+  public void fill(int from, int to, T value) throws IndexException {
+    checkRange(from, to - from, length);
+    if (from == to) {
+      return;
+    }
+    Node<T> previous = traverse(from);
+    unlinkBefore(previous, to);
+    if (value == defaultValue) {
       return;
     }
-    tracker.next = tracker.next.next;
+    for (int i = from; i < to; i++) {
+      previous = putAfter(previous, i, value);
+    }
+  }
+  
+  /**
+   * Helper for fill(), unlink every node after previous with index < to.
+   *
+   * @param previous node to keep, null to start at head
+   * @param to index of the first node to keep after previous
+   */
+  private void unlinkBefore(Node<T> previous, int to) {
+    Node<T> after = previous == null ? head : previous.next;
+    while (after != null && after.index < to) {
+      after = after.next;
+      size--;
+    }
+    if (previous == null) {
+      head = after;
+    } else {
+      previous.next = after;
+    }
+  }
+  
+  /**
+   * Write an array into consecutive positions in a single walk.
+   *
+   * @param from position receiving src[0].
+   * @param src values to be written.
+   * @throws IndexException when from < 0 or from + src.length > length.
+   */
+  @Override
+  public void putRange(int from, T[] src) throws IndexException {
+    checkRange(from, src.length, length);
+    if (src.length == 0) {
+      return;
+    }
+    Node<T> previous = traverse(from);
+    for (int i = 0; i < src.length; i++) {
+      previous = putAfter(previous, from + i, src[i]);
+    }
+  }
+  
+  /**
+   * Read a range in a single walk over the nodes inside it.
+   *
+   * @param from first position of the range, inclusive.
+   * @param to last position of the range, exclusive.
+   * @param dst receives the value at from + i at dst[i].
+   * @throws IndexException when the range is out of bounds
+   *                        or dst is shorter than the range.
+   */
+  @Override
+  public void getRange(int from, int to, T[] dst) throws IndexException {
+    checkRange(from, to - from, length);
+    checkRange(0, to - from, dst.length);
+    Arrays.fill(dst, 0, to - from, defaultValue);
+    if (from == to) {
+      return;
+    }
+    Node<T> previous = traverse(from);
+    Node<T> node = previous == null ? head : previous.next;
+    for (; node != null && node.index < to; node = node.next) {
+      dst[node.index - from] = node.data;
+    }
+  }
+  
+  /**
+   * Return the number of nodes.
+   *
+   * @return number of positions holding a value other than defaultValue
+   */
+  @Override
+  public int nonDefaultCount() {
+    return size;
+  }
+
+  @Override
+  public long nodesVisited() {
+    return nodesVisited;
+  }
+
+  @Override
+  public int nodeCount() {
+    return size;
+  }
+  
+  /**
+   * Visit every node in index order.
+   *
+   * @param action callback receiving index and data of each node
+   */
+  @Override
+  public void forEachNonDefault(IndexValueConsumer<? super T> action) {
+    for (Node<T> node = head; node != null; node = node.next) {
+      action.accept(node.index, node.data);
+    }
+  }
+  
+  /**
+   * Find the index of the first node at or after from.
+   *
+   * @param from position to start looking at
+   * @return index of that node, -1 if there is none
+   * @throws IndexException if from < 0 or from > length()
+   */
+  @Override
+  public int nextNonDefaultIndex(int from) throws IndexException {
+    if (from == length) {
+      return -1;
+    }
+    Node<T> previous = traverse(from);
+    Node<T> tracker = previous == null ? head : previous.next;
+    return tracker == null ? -1 : tracker.index;
+  }
+  
+  /**
+   * Creates an iterator over the nodes in index order.
+   *
+   * @return iterator of (index, data) entries
+   */
+  @Override
+  public Iterator<Map.Entry<Integer, T>> nonDefaultEntries() {
+    return new Iterator<>() {
+      private Node<T> current = head;
+      
+      @Override
+      public boolean hasNext() {
+        return current != null;
+      }
+      
+      @Override
+      public Map.Entry<Integer, T> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Map.Entry<Integer, T> entry = new AbstractMap.SimpleImmutableEntry<>(current.index, current.data);
+        current = current.next;
+        return entry;
+      }
+    };
+  }
+  
+  /**
+   * Creates an appender that links nodes behind the last node of the list.
+   *
+   * @return the appender
+   */
+  Appender appender() {
+    Appender appender = new Appender();
+    while (hasNextNode(appender.tail)) {
+      appender.tail = appender.tail.next;
+    }
+    return appender;
+  }
+  
+  /**
+   * Builds the list in one pass by linking each new node behind the
+   * previous one, for loaders that already produce indices in order.
+   */
+  final class Appender {
+    private Node<T> tail = head;
+    
+    /**
+     * Link a node behind the last node.
+     *
+     * @param index index of the node, expected: larger than every stored index
+     * @param value data of the node, expected: value != defaultValue
+     * @throws IndexException if index < 0 or index >= length()
+     */
+    void append(int index, T value) throws IndexException {
+      checkIndex(index);
+      Node<T> node = new Node<>(index, value);
+      addNode(tail, node);
+      tail = node;
+    }
   }
   
   /**
@@ -219,6 +508,36 @@ public class SparseIndexedList<T> implements IndexedList<T> {
     return new SparseIndexedListIterator();
   }
   
+  /**
+   * Creates a spliterator that splits by index range and emits runs of
+   * defaultValue between nodes without visiting them.
+   *
+   * @return the spliterator
+   */
+  @Override
+  public Spliterator<T> spliterator() {
+    return new SparseIndexedListSpliterator(0, length, head);
+  }
+  
+  /**
+   * Creates a spliterator over a range that starts at the first node
+   * in the range, found with one walk.
+   *
+   * @param from first position of the range, inclusive.
+   * @param to last position of the range, exclusive.
+   * @return the spliterator
+   * @throws IndexException when from < 0, to > length or from > to.
+   */
+  @Override
+  public Spliterator<T> spliterator(int from, int to) throws IndexException {
+    checkRange(from, to - from, length);
+    if (from == to) {
+      return new SparseIndexedListSpliterator(from, to, null);
+    }
+    Node<T> previous = traverse(from);
+    return new SparseIndexedListSpliterator(from, to, previous == null ? head : previous.next);
+  }
+  
   /**
    * An implementation of type Node.
    *
@@ -294,4 +613,89 @@ public class SparseIndexedList<T> implements IndexedList<T> {
       return data;
     }
   }
+  
+  /**
+   * A spliterator over positions cursor to fence - 1 that keeps the
+   * first node at or after cursor alongside the cursor.
+   */
+  private class SparseIndexedListSpliterator implements Spliterator<T> {
+    private int cursor;
+    private final int fence;
+    private Node<T> current;
+    
+    /**
+     * Constructor of spliterator.
+     *
+     * @param cursor first position, inclusive
+     * @param fence last position, exclusive
+     * @param current first node with index >= cursor, or null
+     */
+    SparseIndexedListSpliterator(int cursor, int fence, Node<T> current) {
+      this.cursor = cursor;
+      this.fence = fence;
+      this.current = current;
+    }
+    
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (cursor >= fence) {
+        return false;
+      }
+      T data = defaultValue;
+      if (current != null && current.index == cursor) {
+        data = current.data;
+        current = current.next;
+      }
+      cursor++;
+      action.accept(data);
+      return true;
+    }
+    
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+      while (cursor < fence) {
+        // Emit defaults up to the next node (or the fence), then the node.
+        int stop = current == null ? fence : Math.min(current.index, fence);
+        for (; cursor < stop; cursor++) {
+          action.accept(defaultValue);
+        }
+        if (cursor < fence) {
+          action.accept(current.data);
+          current = current.next;
+          cursor++;
+        }
+      }
+    }
+    
+    /**
+     * Split off the first half of the index range.
+     *
+     * @return spliterator over the first half, null if too small to split
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+      int mid = (cursor + fence) >>> 1;
+      if (mid <= cursor) {
+        return null;
+      }
+      Node<T> split = current;
+      while (split != null && split.index < mid) {
+        split = split.next;
+      }
+      Spliterator<T> prefix = new SparseIndexedListSpliterator(cursor, mid, current);
+      cursor = mid;
+      current = split;
+      return prefix;
+    }
+    
+    @Override
+    public long estimateSize() {
+      return fence - cursor;
+    }
+    
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED;
+    }
+  }
 }
@@ -0,0 +1,196 @@
+package hw2;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Compact binary snapshots of a SparseIndexedList.
+ * A snapshot stores the length, the default value and only the
+ * positions with a node. Indices are delta-encoded as unsigned varints
+ * and values go through a FixedWidthCodec; a zero delta ends the list.
+ * Snapshots are streamed through channels with one bounded buffer, and
+ * loading links the nodes in a single sorted pass instead of calling
+ * put once per entry.
+ *
+ * <pre>
+ * int magic, int value width, int length, default value,
+ * { varint (index - previous index), value }, varint 0
+ * </pre>
+ */
+public final class SparseIndexedListSnapshot {
+  private static final int MAGIC = 0x53494c31;
+  private static final int BUFFER_BYTES = 1 << 16;
+  private static final int MAX_VARINT_BYTES = 5;
+  private static final int HEADER_BYTES = 12;
+
+  private SparseIndexedListSnapshot() {
+  }
+
+  /**
+   * Write a snapshot of list to a channel.
+   *
+   * @param list list to save.
+   * @param codec codec for the default value and the stored values.
+   * @param out channel to write to, it is not closed.
+   * @param <T> Element type.
+   * @throws IOException if writing to the channel fails.
+   */
+  public static <T> void write(SparseIndexedList<T> list, FixedWidthCodec<T> codec,
+                               WritableByteChannel out) throws IOException {
+    Writer<T> writer = new Writer<>(codec, out);
+    writer.header(list.length(), list.defaultValue());
+    try {
+      list.forEachNonDefault(writer::entry);
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    writer.finish();
+  }
+
+  /**
+   * Read a snapshot from a channel into a new SparseIndexedList.
+   *
+   * @param codec codec the snapshot was written with.
+   * @param in channel to read from, it is not closed.
+   * @param <T> Element type.
+   * @return the restored list.
+   * @throws IOException if reading fails or the data is not a valid snapshot.
+   */
+  public static <T> SparseIndexedList<T> read(FixedWidthCodec<T> codec, ReadableByteChannel in)
+      throws IOException {
+    Reader reader = new Reader(in);
+    reader.require(HEADER_BYTES);
+    ByteBuffer buffer = reader.buffer;
+    if (buffer.getInt() != MAGIC || buffer.getInt() != codec.width()) {
+      throw new IOException("ERROR: NOT A SNAPSHOT FOR THIS CODEC");
+    }
+    int length = buffer.getInt();
+    if (length <= 0) {
+      throw new IOException("ERROR: CORRUPT SNAPSHOT LENGTH");
+    }
+    SparseIndexedList<T> list = new SparseIndexedList<>(length, reader.value(codec));
+    SparseIndexedList<T>.Appender appender = list.appender();
+    long index = -1;
+    for (int delta = reader.varint(); delta != 0; delta = reader.varint()) {
+      index += delta & 0xffffffffL;
+      if (index >= length) {
+        throw new IOException("ERROR: CORRUPT SNAPSHOT INDEX");
+      }
+      appender.append((int) index, reader.value(codec));
+    }
+    return list;
+  }
+
+  // Encodes into a bounded buffer and drains it whenever it fills up.
+  private static final class Writer<T> {
+    private final FixedWidthCodec<T> codec;
+    private final WritableByteChannel out;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private int previous = -1;
+
+    Writer(FixedWidthCodec<T> codec, WritableByteChannel out) {
+      this.codec = codec;
+      this.out = out;
+    }
+
+    void header(int length, T defaultValue) throws IOException {
+      reserve(HEADER_BYTES + codec.width());
+      buffer.putInt(MAGIC).putInt(codec.width()).putInt(length);
+      value(defaultValue);
+    }
+
+    void entry(int index, T value) {
+      try {
+        reserve(MAX_VARINT_BYTES + codec.width());
+        varint(index - previous);
+        value(value);
+        previous = index;
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    void finish() throws IOException {
+      reserve(1);
+      varint(0);
+      drain();
+    }
+
+    private void value(T value) {
+      codec.write(buffer, buffer.position(), value);
+      buffer.position(buffer.position() + codec.width());
+    }
+
+    private void varint(int value) {
+      int v = value;
+      while ((v & ~0x7f) != 0) {
+        buffer.put((byte) ((v & 0x7f) | 0x80));
+        v >>>= 7;
+      }
+      buffer.put((byte) v);
+    }
+
+    private void reserve(int bytes) throws IOException {
+      if (buffer.remaining() < bytes) {
+        drain();
+      }
+    }
+
+    private void drain() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        out.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+
+  // Decodes from a bounded buffer and refills it from the channel on demand.
+  private static final class Reader {
+    private final ReadableByteChannel in;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    Reader(ReadableByteChannel in) {
+      this.in = in;
+      buffer.flip();
+    }
+
+    void require(int bytes) throws IOException {
+      if (buffer.remaining() >= bytes) {
+        return;
+      }
+      buffer.compact();
+      while (buffer.position() < bytes) {
+        if (in.read(buffer) < 0) {
+          throw new EOFException("ERROR: TRUNCATED SNAPSHOT");
+        }
+      }
+      buffer.flip();
+    }
+
+    <T> T value(FixedWidthCodec<T> codec) throws IOException {
+      require(codec.width());
+      T value = codec.read(buffer, buffer.position());
+      buffer.position(buffer.position() + codec.width());
+      return value;
+    }
+
+    int varint() throws IOException {
+      int value = 0;
+      for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+        require(1);
+        byte b = buffer.get();
+        value |= (b & 0x7f) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new IOException("ERROR: CORRUPT SNAPSHOT VARINT");
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package hw2;
+
+import exceptions.IndexException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An IndexedList that only stores the positions whose value differs
+ * from a default value, and can traverse just those positions.
+ * The methods here only visit the regions that hold stored positions:
+ * their cost grows with the stored entries, or with the pages or chunks
+ * holding them, and never requires reading all length() positions.
+ * Implementations that store whole regions document their exact cost.
+ *
+ * @param <T> the base type of the items in the SparseList.
+ */
+public interface SparseList<T> extends IndexedList<T> {
+
+  /**
+   * Value of every position that is not stored.
+   *
+   * @return the default value.
+   */
+  T defaultValue();
+
+  /**
+   * Number of stored positions, i.e. positions whose value was
+   * written as something other than defaultValue().
+   *
+   * @return the count
+   *         Inv: 0 <= nonDefaultCount() <= length()
+   */
+  int nonDefaultCount();
+
+  /**
+   * Perform an action on every stored position in increasing index order.
+   * Nothing is allocated per position.
+   *
+   * @param action receives the index and value of each stored position.
+   */
+  void forEachNonDefault(IndexValueConsumer<? super T> action);
+
+  /**
+   * Find the first stored position at or after from.
+   *
+   * @param from position to start looking at.
+   * @return the smallest stored index >= from, or -1 if there is none.
+   * @throws IndexException when from < 0 or from > length.
+   */
+  int nextNonDefaultIndex(int from) throws IndexException;
+
+  /**
+   * Iterate over the stored positions in increasing index order.
+   *
+   * @return an iterator of (index, value) entries.
+   */
+  Iterator<Map.Entry<Integer, T>> nonDefaultEntries();
+}
@@ -0,0 +1,216 @@
+package hw2;
+
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Element-wise operations on pairs of SparseLists used as sparse vectors.
+ * Each operation makes two passes: the first copies the stored entries
+ * of both lists into sorted arrays with forEachNonDefault, the second
+ * merges the two arrays. An operation on lists with k1 and k2 stored
+ * positions therefore runs in O(k1 + k2) rather than calling get for
+ * every index. Positions stored in neither list hold both default values
+ * and are handled all at once.
+ */
+public final class SparseOps {
+
+  private SparseOps() {
+  }
+
+  /**
+   * Combine two lists position by position into a new list.
+   * The result's default value is fn(a.defaultValue(), b.defaultValue());
+   * positions where fn returns that same reference are not stored.
+   *
+   * @param a first list.
+   * @param b second list.
+   * @param fn receives the values of a and b at one position.
+   * @param <A> element type of a.
+   * @param <B> element type of b.
+   * @param <R> element type of the result.
+   * @return a new list holding fn(a.get(i), b.get(i)) at every i.
+   * @throws LengthException if the lists differ in length.
+   */
+  public static <A, B, R> SparseIndexedList<R> zipWith(SparseList<A> a, SparseList<B> b,
+      BiFunction<? super A, ? super B, ? extends R> fn) throws LengthException {
+    checkLengths(a, b);
+    R defaultValue = fn.apply(a.defaultValue(), b.defaultValue());
+    SparseIndexedList<R> result = new SparseIndexedList<>(a.length(), defaultValue);
+    SparseIndexedList<R>.Appender appender = result.appender();
+    Merge<A, B> merge = new Merge<>(Entries.of(a), Entries.of(b));
+    while (merge.next()) {
+      R value = fn.apply(merge.left, merge.right);
+      if (value != defaultValue) {
+        appender.append(merge.index, value);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Sum of the products of the values at each position.
+   *
+   * @param a first list, its values must not be null.
+   * @param b second list, its values must not be null.
+   * @param <A> element type of a.
+   * @param <B> element type of b.
+   * @return the dot product, computed in double precision.
+   * @throws LengthException if the lists differ in length.
+   */
+  public static <A extends Number, B extends Number> double dot(SparseList<A> a, SparseList<B> b)
+      throws LengthException {
+    checkLengths(a, b);
+    Merge<A, B> merge = new Merge<>(Entries.of(a), Entries.of(b));
+    double sum = 0;
+    while (merge.next()) {
+      sum += merge.left.doubleValue() * merge.right.doubleValue();
+    }
+    int rest = a.length() - merge.visited;
+    if (rest > 0) {
+      sum += rest * a.defaultValue().doubleValue() * b.defaultValue().doubleValue();
+    }
+    return sum;
+  }
+
+  /**
+   * Replace every value of target by add(value, other value).
+   * Only positions stored in either list are written, so
+   * add(target.defaultValue(), other.defaultValue()) must equal
+   * target.defaultValue(). A sum equal to the target default is
+   * written as the default itself, so its position stops being stored.
+   *
+   * @param target list to update.
+   * @param other list of values to add.
+   * @param add combines a target value with an other value.
+   * @param <T> element type of target.
+   * @param <U> element type of other.
+   * @throws LengthException if the lists differ in length.
+   * @throws IllegalArgumentException if adding the defaults changes the target default.
+   */
+  public static <T, U extends T> void addInPlace(SparseIndexedList<T> target, SparseList<U> other,
+      BinaryOperator<T> add) throws LengthException {
+    checkLengths(target, other);
+    T zero = target.defaultValue();
+    if (!Objects.equals(add.apply(zero, other.defaultValue()), zero)) {
+      throw new IllegalArgumentException("ERROR: DEFAULT VALUES DO NOT ADD UP TO TARGET DEFAULT");
+    }
+    Merge<T, U> merge = new Merge<>(Entries.of(target), Entries.of(other));
+    Entries<T> sums = new Entries<>(zero, merge.capacity());
+    while (merge.next()) {
+      T sum = add.apply(merge.left, merge.right);
+      // putAll removes a position only for the default reference itself.
+      sums.accept(merge.index, Objects.equals(sum, zero) ? zero : sum);
+    }
+    target.putAll(Arrays.copyOf(sums.indices, sums.size), Arrays.copyOf(sums.values, sums.size));
+  }
+
+  /**
+   * Count the positions whose values differ, compared with Objects.equals.
+   *
+   * @param a first list.
+   * @param b second list.
+   * @return number of indices i with !Objects.equals(a.get(i), b.get(i)).
+   * @throws LengthException if the lists differ in length.
+   */
+  public static int countDifferences(SparseList<?> a, SparseList<?> b) throws LengthException {
+    checkLengths(a, b);
+    Merge<?, ?> merge = new Merge<>(Entries.of(a), Entries.of(b));
+    int differences = 0;
+    while (merge.next()) {
+      if (!Objects.equals(merge.left, merge.right)) {
+        differences++;
+      }
+    }
+    if (!Objects.equals(a.defaultValue(), b.defaultValue())) {
+      differences += a.length() - merge.visited;
+    }
+    return differences;
+  }
+
+  private static void checkLengths(IndexedList<?> a, IndexedList<?> b) throws LengthException {
+    if (a.length() != b.length()) {
+      throw new LengthException("ERROR: LENGTHS DIFFER");
+    }
+  }
+
+  /**
+   * The stored entries of a list, copied in index order.
+   *
+   * @param <T> Element type.
+   */
+  private static final class Entries<T> implements IndexValueConsumer<T> {
+    private final T defaultValue;
+    private int[] indices;
+    private T[] values;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    Entries(T defaultValue, int capacity) {
+      this.defaultValue = defaultValue;
+      this.indices = new int[capacity];
+      this.values = (T[]) new Object[capacity];
+    }
+
+    static <T> Entries<T> of(SparseList<T> list) {
+      Entries<T> entries = new Entries<>(list.defaultValue(), list.nonDefaultCount());
+      list.forEachNonDefault(entries);
+      return entries;
+    }
+
+    @Override
+    public void accept(int index, T value) {
+      // The count can be stale for lists that change concurrently.
+      if (size == indices.length) {
+        indices = Arrays.copyOf(indices, size * 2 + 1);
+        values = Arrays.copyOf(values, size * 2 + 1);
+      }
+      indices[size] = index;
+      values[size] = value;
+      size++;
+    }
+  }
+
+  /**
+   * Walks the union of the stored indices of two lists in order,
+   * exposing both values at each one.
+   *
+   * @param <A> element type of the first list.
+   * @param <B> element type of the second list.
+   */
+  private static final class Merge<A, B> {
+    private final Entries<A> first;
+    private final Entries<B> second;
+    private int i;
+    private int j;
+    // Number of positions visited so far.
+    int visited;
+    int index;
+    A left;
+    B right;
+
+    Merge(Entries<A> first, Entries<B> second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    int capacity() {
+      return first.size + second.size;
+    }
+
+    boolean next() {
+      int a = i < first.size ? first.indices[i] : Integer.MAX_VALUE;
+      int b = j < second.size ? second.indices[j] : Integer.MAX_VALUE;
+      if (a == Integer.MAX_VALUE && b == Integer.MAX_VALUE) {
+        return false;
+      }
+      index = Math.min(a, b);
+      left = a == index ? first.values[i++] : first.defaultValue;
+      right = b == index ? second.values[j++] : second.defaultValue;
+      visited++;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package hw2;
+
+/**
+ * Internal counters of a node-based IndexedList, for instrumentation.
+ * Values are read without synchronization and may be stale when read
+ * from a thread other than the one using the list.
+ */
+public interface TraversalMetrics {
+
+  /**
+   * Total number of nodes stepped over by index searches since the
+   * list was created.
+   *
+   * @return the count.
+   */
+  long nodesVisited();
+
+  /**
+   * Number of nodes currently allocated.
+   *
+   * @return the count.
+   */
+  int nodeCount();
+}
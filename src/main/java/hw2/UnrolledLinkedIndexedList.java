@@ -0,0 +1,141 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unrolled linked-list implementation of IndexedList.
+ * Each node holds a block of up to BLOCK_SIZE elements in an array, so
+ * find skips a whole block per pointer it follows and iteration scans
+ * contiguous arrays. Compared to LinkedIndexedList this cuts both the
+ * pointer chases and the number of node objects by the block factor.
+ *
+ * @param <T> Element type.
+ */
+public class UnrolledLinkedIndexedList<T> implements IndexedList<T> {
+  private static final int BLOCK_SIZE = 64;
+
+  private Block<T> head;
+  private int length;
+  // The block found by the last find. Sequential accesses continue
+  // from here instead of restarting at head.
+  private Block<T> finger;
+
+  /**
+   * Constructs a new UnrolledLinkedIndexedList of length size
+   * with default value of defaultValue.
+   *
+   * @param size Length of list, expected: size > 0.
+   * @param defaultValue Default value to store in each slot.
+   * @throws LengthException if size <= 0.
+   */
+  public UnrolledLinkedIndexedList(int size, T defaultValue) throws LengthException {
+    if (size <= 0) {
+      throw new LengthException();
+    }
+
+    length = size;
+
+    // Build the blocks back to front so each one can be prepended.
+    int lastStart = (size - 1) / BLOCK_SIZE * BLOCK_SIZE;
+    for (int start = lastStart; start >= 0; start -= BLOCK_SIZE) {
+      prepend(start, Math.min(BLOCK_SIZE, size - start), defaultValue);
+    }
+  }
+
+  // Insert a block at the beginning of the linked list.
+  @SuppressWarnings("unchecked")
+  private void prepend(int start, int count, T t) {
+    Block<T> b = new Block<>();
+    b.items = (T[]) new Object[count];
+    if (t != null) {
+      Arrays.fill(b.items, t);
+    }
+    b.start = start;
+    b.next = head;
+    head = b;
+  }
+
+  private boolean isValid(int index) {
+    return index >= 0 && index < length();
+  }
+
+  // Find the block holding a given index, skipping whole blocks and
+  // starting at the finger unless the index lies before it.
+  private Block<T> find(int index) throws IndexException {
+    if (!isValid(index)) {
+      throw new IndexException();
+    }
+
+    Block<T> block = head;
+    if (finger != null && finger.start <= index) {
+      block = finger;
+    }
+    while (index >= block.start + block.items.length) {
+      block = block.next;
+    }
+    finger = block;
+    return block;
+  }
+
+  @Override
+  public T get(int index) throws IndexException {
+    Block<T> block = find(index);
+    return block.items[index - block.start];
+  }
+
+  @Override
+  public void put(int index, T value) throws IndexException {
+    Block<T> block = find(index);
+    block.items[index - block.start] = value;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new UnrolledLinkedIndexedListIterator();
+  }
+
+  // A node holding the elements from index start to start + items.length - 1.
+  private static class Block<T> {
+    T[] items;
+    int start;
+    Block<T> next;
+  }
+
+  // An iterator that scans each block's array before moving to the next.
+  private class UnrolledLinkedIndexedListIterator implements Iterator<T> {
+    private Block<T> current;
+    private int offset;
+
+    UnrolledLinkedIndexedListIterator() {
+      current = head;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return current != null;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T t = current.items[offset];
+      offset += 1;
+      if (offset == current.items.length) {
+        current = current.next;
+        offset = 0;
+      }
+      return t;
+    }
+  }
+}
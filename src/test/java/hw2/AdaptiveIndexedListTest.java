@@ -0,0 +1,61 @@
+package hw2;
+
+import exceptions.LengthException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class AdaptiveIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new AdaptiveIndexedList<>(LENGTH, INITIAL, 2);
+  }
+
+  @Test
+  @DisplayName("a chunk turns dense when it fills up and sparse again when it empties.")
+  void testChunkSwitchesRepresentation() {
+    AdaptiveIndexedList<Integer> list = new AdaptiveIndexedList<>(1000, INITIAL, 8);
+    for (int i = 256; i < 256 + 16; i++) {
+      list.put(i, i);
+    }
+    assertEquals(0, list.denseChunkCount());
+    list.put(300, 300);
+    assertEquals(1, list.denseChunkCount());
+    for (int i = 256; i < 256 + 13; i++) {
+      list.put(i, INITIAL);
+    }
+    assertEquals(1, list.denseChunkCount());
+    list.put(269, INITIAL);
+    assertEquals(0, list.denseChunkCount());
+    assertEquals(3, list.nonDefaultCount());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i == 270 || i == 271 || i == 300 ? i : INITIAL, list.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("the shorter last chunk converts at its own thresholds.")
+  void testShortLastChunk() {
+    AdaptiveIndexedList<Integer> list = new AdaptiveIndexedList<>(260, INITIAL, 8);
+    list.put(259, 1);
+    assertEquals(1, list.denseChunkCount());
+    list.put(259, INITIAL);
+    assertEquals(0, list.denseChunkCount());
+    assertEquals(-1, list.nextNonDefaultIndex(0));
+  }
+
+  @Test
+  @DisplayName("constructor rejects chunk sizes out of range.")
+  void testConstructorRejectsInvalidChunkBits() {
+    try {
+      new AdaptiveIndexedList<>(LENGTH, INITIAL, 17);
+      fail("LengthException was not thrown for a chunk size above 2^16");
+    } catch (LengthException ex) {
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package hw2;
+
+public class AdaptiveIndexedListTraversalTest extends SparseListTest {
+
+  @Override
+  public SparseList<Integer> createSparseList() {
+    return new AdaptiveIndexedList<>(LENGTH, INITIAL, 8);
+  }
+
+}
@@ -0,0 +1,29 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentArrayIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new ConcurrentArrayIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("compareAndPut() only writes when the expected value is present.")
+  void testCompareAndPut() {
+    ConcurrentArrayIndexedList<Integer> list = new ConcurrentArrayIndexedList<>(LENGTH, INITIAL);
+    Integer one = 1;
+    assertTrue(list.compareAndPut(3, list.get(3), one));
+    assertFalse(list.compareAndPut(3, INITIAL, 2));
+    assertEquals(1, list.get(3));
+    assertEquals(1, list.getAndUpdate(3, v -> v + 10));
+    assertEquals(14, list.accumulateAndGet(3, 3, Integer::sum));
+  }
+
+}
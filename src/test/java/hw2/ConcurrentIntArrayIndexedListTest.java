@@ -0,0 +1,36 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrentIntArrayIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new ConcurrentIntArrayIndexedList(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("addAndGet() from many threads loses no update.")
+  void testConcurrentIncrements() throws InterruptedException {
+    ConcurrentIntArrayIndexedList counters = new ConcurrentIntArrayIndexedList(LENGTH, 0);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10000; i++) {
+          counters.addAndGet(i % LENGTH, 1);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(threads.length * 10000 / LENGTH, counters.getInt(i));
+    }
+  }
+
+}
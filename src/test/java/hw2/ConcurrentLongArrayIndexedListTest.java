@@ -0,0 +1,64 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentLongArrayIndexedListTest {
+  private static final int LENGTH = 10;
+  private static final int THREADS = 4;
+  private static final int ROUNDS = 10000;
+
+  private static void runAll(Runnable task) throws InterruptedException {
+    Thread[] threads = new Thread[THREADS];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(task);
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  @Test
+  @DisplayName("addAndGet() from many threads loses no update.")
+  void testConcurrentIncrements() throws InterruptedException {
+    ConcurrentLongArrayIndexedList counters = new ConcurrentLongArrayIndexedList(LENGTH, 1L << 40);
+    runAll(() -> {
+      for (int i = 0; i < ROUNDS; i++) {
+        counters.addAndGet(i % LENGTH, 1);
+      }
+    });
+    PrimitiveIterator.OfLong it = counters.iterator();
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals((1L << 40) + THREADS * ROUNDS / LENGTH, counters.getLong(i));
+      assertEquals(counters.getLong(i), it.nextLong());
+    }
+  }
+
+  @Test
+  @DisplayName("compareAndPut() retry loops from many threads lose no update.")
+  void testConcurrentCompareAndPut() throws InterruptedException {
+    ConcurrentLongArrayIndexedList counters = new ConcurrentLongArrayIndexedList(LENGTH, 0L);
+    runAll(() -> {
+      for (int i = 0; i < ROUNDS; i++) {
+        long current;
+        do {
+          current = counters.getLong(i % LENGTH);
+        } while (!counters.compareAndPut(i % LENGTH, current, current + 3));
+      }
+    });
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(3L * THREADS * ROUNDS / LENGTH, counters.get(i));
+    }
+    assertFalse(counters.compareAndPut(0, 0L, 1L));
+    assertTrue(counters.compareAndPut(0, counters.getLong(0), -1L));
+    assertEquals(-1L, counters.getLong(0));
+  }
+
+}
@@ -0,0 +1,42 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrentSparseIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new ConcurrentSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("writers on disjoint positions all land, and defaults remove them.")
+  void testConcurrentWriters() throws InterruptedException {
+    int length = 100000;
+    ConcurrentSparseIndexedList<Integer> list = new ConcurrentSparseIndexedList<>(length, 0);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      int offset = t;
+      threads[t] = new Thread(() -> {
+        for (int i = offset; i < length; i += threads.length) {
+          list.put(i, i);
+        }
+        for (int i = offset; i < length; i += 2 * threads.length) {
+          list.put(i, 0);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(length / 2, list.nonDefaultCount());
+    for (int i = 0; i < length; i++) {
+      assertEquals(i % 8 < 4 ? 0 : i, list.get(i));
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package hw2;
+
+public class ConcurrentSparseIndexedListTraversalTest extends SparseListTest {
+
+  @Override
+  public SparseList<Integer> createSparseList() {
+    return new ConcurrentSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+}
@@ -0,0 +1,92 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DictionaryIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new DictionaryIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("the slot width doubles only when a new code does not fit.")
+  void testWidensWithCardinality() {
+    DictionaryIndexedList<Integer> list = new DictionaryIndexedList<>(1000, 0);
+    assertEquals(1, list.bitsPerSlot());
+    list.put(0, 1);
+    assertEquals(1, list.bitsPerSlot());
+    list.put(1, 2);
+    assertEquals(2, list.bitsPerSlot());
+    for (int i = 0; i < 300; i++) {
+      list.put(999 - i, i % 10);
+    }
+    assertEquals(4, list.bitsPerSlot());
+    assertEquals(10, list.cardinality());
+    for (int i = 0; i < 300; i++) {
+      list.put(i * 3, i);
+    }
+    assertEquals(16, list.bitsPerSlot());
+    for (int i = 0; i < 1000; i++) {
+      int expected = i % 3 == 0 && i < 900 ? i / 3 : i >= 700 ? (999 - i) % 10 : i == 1 ? 2 : 0;
+      assertEquals(expected, list.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("equal values share one code, get() returns the first instance put.")
+  void testEqualValuesShareCode() {
+    DictionaryIndexedList<String> list = new DictionaryIndexedList<>(LENGTH, "a");
+    String first = new String("b");
+    String second = new String("b");
+    list.put(1, first);
+    list.put(2, second);
+    assertSame(first, list.get(1));
+    assertSame(first, list.get(2));
+    assertEquals(2, list.cardinality());
+  }
+
+  @Test
+  @DisplayName("freshly boxed values and built strings do not grow the dictionary.")
+  void testFreshInstancesKeepWidth() {
+    DictionaryIndexedList<Integer> numbers = new DictionaryIndexedList<>(1000, 0);
+    DictionaryIndexedList<String> strings = new DictionaryIndexedList<>(1000, "");
+    for (int i = 0; i < 100000; i++) {
+      numbers.put(i % 1000, Integer.valueOf(1000 + i % 3));
+      strings.put(i % 1000, new StringBuilder("s").append(i % 3).toString());
+    }
+    assertEquals(4, numbers.cardinality());
+    assertEquals(2, numbers.bitsPerSlot());
+    assertEquals(4, strings.cardinality());
+    assertEquals(2, strings.bitsPerSlot());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(1000 + (99000 + i) % 3, numbers.get(i));
+      assertEquals("s" + (99000 + i) % 3, strings.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("codes no slot holds any more are reused.")
+  void testReleasedCodesAreReused() {
+    DictionaryIndexedList<Integer> list = new DictionaryIndexedList<>(LENGTH, 0);
+    for (int i = 0; i < 100000; i++) {
+      list.put(3, 1000 + i);
+    }
+    assertEquals(2, list.cardinality());
+    assertEquals(1, list.bitsPerSlot());
+    assertEquals(100999, list.get(3));
+    list.put(3, 0);
+    assertEquals(1, list.cardinality());
+    list.put(4, 5000);
+    list.put(5, 6000);
+    assertEquals(2, list.bitsPerSlot());
+    assertEquals(5000, list.get(4));
+    assertEquals(6000, list.get(5));
+    assertEquals(0, list.get(3));
+  }
+
+}
@@ -0,0 +1,80 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class DoubleArrayIndexedListTest {
+  private static final int LENGTH = 10;
+  private static final double INITIAL = 7;
+
+  @Test
+  @DisplayName("a new list holds the default value in every slot.")
+  void testNewListHoldsDefault() {
+    DoubleArrayIndexedList list = new DoubleArrayIndexedList(LENGTH, INITIAL);
+    assertEquals(LENGTH, list.length());
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(INITIAL, list.getDouble(i));
+    }
+  }
+
+  @Test
+  @DisplayName("putDouble() is visible through getDouble(), get() and the primitive iterator.")
+  void testPrimitiveAndBoxedViewsAgree() {
+    DoubleArrayIndexedList list = new DoubleArrayIndexedList(LENGTH, INITIAL);
+    for (int i = 0; i < LENGTH; i++) {
+      list.putDouble(i, i * 0.5);
+    }
+    PrimitiveIterator.OfDouble it = list.iterator();
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i * 0.5, list.getDouble(i));
+      assertEquals(i * 0.5, list.get(i));
+      assertEquals(i * 0.5, it.nextDouble());
+    }
+    assertFalse(it.hasNext());
+    try {
+      it.nextDouble();
+      fail("NoSuchElementException was not thrown");
+    } catch (NoSuchElementException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("getDouble() and putDouble() reject indices out of range.")
+  void testIndexOutOfRangeThrows() {
+    DoubleArrayIndexedList list = new DoubleArrayIndexedList(LENGTH, INITIAL);
+    try {
+      list.getDouble(LENGTH);
+      fail("IndexException was not thrown for getDouble()");
+    } catch (IndexException ex) {
+      assertEquals(INITIAL, list.getDouble(LENGTH - 1));
+    }
+    try {
+      list.putDouble(-1, 1);
+      fail("IndexException was not thrown for putDouble()");
+    } catch (IndexException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("constructor rejects a non-positive length.")
+  void testConstructorRejectsZeroLength() {
+    try {
+      new DoubleArrayIndexedList(0, INITIAL);
+      fail("LengthException was not thrown");
+    } catch (LengthException ex) {
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,40 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HashSparseIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new HashSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("random puts and removals agree with an ArrayIndexedList.")
+  void testRandomPutsMatchArrayIndexedList() {
+    int length = 5000;
+    IndexedList<Integer> hashed = new HashSparseIndexedList<>(length, INITIAL);
+    IndexedList<Integer> expected = new ArrayIndexedList<>(length, INITIAL);
+    Random rand = new Random(226);
+    for (int i = 0; i < 20000; i++) {
+      int index = rand.nextInt(length);
+      int value = rand.nextInt(3) == 0 ? INITIAL : rand.nextInt(100);
+      hashed.put(index, value);
+      expected.put(index, value);
+    }
+    for (int i = 0; i < length; i++) {
+      assertEquals(expected.get(i), hashed.get(i));
+    }
+    int i = 0;
+    for (int element : hashed) {
+      assertEquals(expected.get(i), element);
+      i++;
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package hw2;
+
+public class HashSparseIndexedListTraversalTest extends SparseListTest {
+
+  @Override
+  public SparseList<Integer> createSparseList() {
+    return new HashSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+}
@@ -6,11 +6,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -214,4 +220,172 @@ public abstract class IndexedListTest {
     }
   }
   
+  @Test
+  @DisplayName("fill() writes the value into the range only.")
+  void testFillWritesRange() {
+    indexedList.fill(2, 6, 3);
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i >= 2 && i < 6 ? 3 : INITIAL, indexedList.get(i));
+    }
+    indexedList.fill(0, LENGTH, INITIAL);
+    for (int element : indexedList) {
+      assertEquals(INITIAL, element);
+    }
+  }
+  
+  @Test
+  @DisplayName("fill() throws exception if the range is out of bounds.")
+  void testFillWithInvalidRangeThrowsException() {
+    try {
+      indexedList.fill(3, LENGTH + 1, 1);
+      fail("IndexException was not thrown for to > length");
+    } catch (IndexException ex) {
+      return;
+    }
+  }
+  
+  @Test
+  @DisplayName("putRange() and getRange() round trip a sub-range.")
+  void testPutRangeAndGetRange() {
+    indexedList.put(4, 1);
+    indexedList.putRange(5, new Integer[] {10, INITIAL, 12});
+    indexedList.put(9, 2);
+    Integer[] dst = new Integer[6];
+    indexedList.getRange(4, LENGTH, dst);
+    assertEquals(Arrays.asList(1, 10, INITIAL, 12, INITIAL, 2), Arrays.asList(dst));
+  }
+  
+  @Test
+  @DisplayName("putRange() throws exception if the array does not fit.")
+  void testPutRangeBeyondLengthThrowsException() {
+    try {
+      indexedList.putRange(LENGTH - 1, new Integer[] {1, 2});
+      fail("IndexException was not thrown for a range past length");
+    } catch (IndexException ex) {
+      assertEquals(INITIAL, indexedList.get(LENGTH - 1));
+    }
+  }
+  
+  @Test
+  @DisplayName("getRange() throws exception if the array is too short.")
+  void testGetRangeIntoShortArrayThrowsException() {
+    try {
+      indexedList.getRange(0, 3, new Integer[2]);
+      fail("IndexException was not thrown for a short destination");
+    } catch (IndexException ex) {
+      return;
+    }
+  }
+  
+  @Test
+  @DisplayName("copyFrom() copies from another list.")
+  void testCopyFromOtherList() {
+    IndexedList<Integer> other = new ArrayIndexedList<>(LENGTH, 0);
+    for (int i = 0; i < LENGTH; i++) {
+      other.put(i, i);
+    }
+    indexedList.copyFrom(other, 5, 1, 4);
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i >= 1 && i < 5 ? i + 4 : INITIAL, indexedList.get(i));
+    }
+  }
+  
+  @Test
+  @DisplayName("copyFrom() handles overlapping ranges of the same list.")
+  void testCopyFromOverlappingSelf() {
+    for (int i = 0; i < LENGTH; i++) {
+      indexedList.put(i, i);
+    }
+    indexedList.copyFrom(indexedList, 0, 2, 6);
+    assertEquals(Arrays.asList(0, 1, 0, 1, 2, 3, 4, 5, 8, 9), toList(indexedList));
+    indexedList.copyFrom(indexedList, 3, 1, 5);
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 4, 5, 8, 9), toList(indexedList));
+  }
+  
+  @Test
+  @DisplayName("stream() visits every position in order.")
+  void testStreamVisitsPositionsInOrder() {
+    for (int i = 0; i < LENGTH; i += 3) {
+      indexedList.put(i, i);
+    }
+    assertEquals(toList(indexedList), indexedList.stream().collect(Collectors.toList()));
+  }
+  
+  @Test
+  @DisplayName("parallelStream() agrees with the sequential result.")
+  void testParallelStreamMatchesSequential() {
+    for (int i = 0; i < LENGTH; i++) {
+      indexedList.put(i, i % 4 == 0 ? INITIAL : i);
+    }
+    assertEquals(toList(indexedList), indexedList.parallelStream().collect(Collectors.toList()));
+    assertEquals(indexedList.stream().mapToInt(Integer::intValue).sum(),
+        indexedList.parallelStream().mapToInt(Integer::intValue).sum());
+  }
+  
+  @Test
+  @DisplayName("spliterator() is sized and splits into ordered halves.")
+  void testSpliteratorSplitsInOrderedHalves() {
+    for (int i = 0; i < LENGTH; i++) {
+      indexedList.put(i, i);
+    }
+    Spliterator<Integer> suffix = indexedList.spliterator();
+    assertTrue(suffix.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+    assertEquals(LENGTH, suffix.getExactSizeIfKnown());
+    Spliterator<Integer> prefix = suffix.trySplit();
+    assertEquals(LENGTH / 2, prefix.getExactSizeIfKnown());
+    assertEquals(LENGTH - LENGTH / 2, suffix.getExactSizeIfKnown());
+    List<Integer> values = new ArrayList<>();
+    prefix.forEachRemaining(values::add);
+    while (suffix.tryAdvance(values::add)) {
+      assertEquals(LENGTH - values.size(), suffix.getExactSizeIfKnown());
+    }
+    assertEquals(toList(indexedList), values);
+  }
+  
+  @Test
+  @DisplayName("spliterator(from, to) visits exactly the range in order.")
+  void testRangeSpliteratorVisitsRange() {
+    for (int i = 0; i < LENGTH; i += 2) {
+      indexedList.put(i, i);
+    }
+    List<Integer> expected = toList(indexedList);
+    for (int from = 0; from <= LENGTH; from++) {
+      int to = from + (LENGTH - from + 1) / 2;
+      Spliterator<Integer> range = indexedList.spliterator(from, to);
+      assertEquals(to - from, range.getExactSizeIfKnown());
+      List<Integer> values = new ArrayList<>();
+      range.forEachRemaining(values::add);
+      assertEquals(expected.subList(from, to), values);
+    }
+  }
+  
+  @Test
+  @DisplayName("slice() reads and writes through to the list.")
+  void testSliceWritesThrough() {
+    IndexedList<Integer> slice = indexedList.slice(2, LENGTH - 1);
+    assertEquals(LENGTH - 3, slice.length());
+    slice.put(0, 1);
+    indexedList.put(LENGTH - 2, 2);
+    assertEquals(1, indexedList.get(2));
+    assertEquals(2, slice.get(LENGTH - 4));
+    IndexedList<Integer> inner = slice.slice(1, 3);
+    inner.put(1, 3);
+    assertEquals(3, indexedList.get(4));
+    assertEquals(Arrays.asList(INITIAL, 3), toList(inner));
+    try {
+      slice.get(LENGTH - 3);
+      fail("IndexException was not thrown past the end of the slice");
+    } catch (IndexException ex) {
+      return;
+    }
+  }
+  
+  protected static List<Integer> toList(IndexedList<Integer> list) {
+    List<Integer> values = new ArrayList<>();
+    for (int element : list) {
+      values.add(element);
+    }
+    return values;
+  }
+  
 }
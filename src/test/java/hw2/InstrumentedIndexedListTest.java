@@ -0,0 +1,128 @@
+package hw2;
+
+import exceptions.IndexException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class InstrumentedIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new InstrumentedIndexedList<>(new ArrayIndexedList<>(LENGTH, INITIAL));
+  }
+
+  @Test
+  @DisplayName("counts calls and the calls that threw IndexException.")
+  void testCountsCallsAndExceptions() {
+    InstrumentedIndexedList<Integer> list = new InstrumentedIndexedList<>(new ArrayIndexedList<>(LENGTH, INITIAL));
+    list.put(0, 1);
+    list.get(0);
+    list.get(1);
+    try {
+      list.get(LENGTH);
+      fail("IndexException was not thrown");
+    } catch (IndexException ex) {
+      assertEquals(3, list.getGetCount());
+    }
+    assertEquals(1, list.getPutCount());
+    assertEquals(1, list.getIndexExceptionCount());
+    assertEquals(0.25, list.getIndexExceptionRate());
+    assertEquals(3, list.getLatencies().count());
+    assertEquals(-1, list.getNodesVisited());
+    list.reset();
+    assertEquals(0, list.snapshot().getCount());
+  }
+
+  @Test
+  @DisplayName("reports nodes visited by the linked list's searches.")
+  void testLinkedNodesVisited() {
+    InstrumentedIndexedList<Integer> list = new InstrumentedIndexedList<>(new LinkedIndexedList<>(LENGTH, INITIAL));
+    for (int i = 0; i < LENGTH; i++) {
+      list.get(i);
+    }
+    assertEquals(LENGTH - 1, list.getNodesVisited());
+    assertEquals(LENGTH, list.getNodeCount());
+    list.get(LENGTH - 1);
+    list.reset();
+    list.get(0);
+    assertEquals(0, list.snapshot().nodesVisited());
+  }
+
+  @Test
+  @DisplayName("reports the sparse list's node count.")
+  void testSparseNodeCount() {
+    InstrumentedIndexedList<Integer> list = new InstrumentedIndexedList<>(new SparseIndexedList<>(LENGTH, INITIAL));
+    list.put(3, 1);
+    list.put(5, 1);
+    list.put(3, INITIAL);
+    InstrumentedIndexedList.Snapshot snapshot = list.snapshot();
+    assertEquals(1, snapshot.nodeCount());
+    assertEquals(3, snapshot.putCount());
+  }
+
+  @Test
+  @DisplayName("percentile() returns the upper bound of the matching bucket.")
+  void testHistogramPercentile() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.percentile(50));
+    for (int i = 0; i < 98; i++) {
+      histogram.record(100);
+    }
+    histogram.record(5000);
+    histogram.record(0);
+    assertEquals(127, histogram.percentile(50));
+    assertEquals(127, histogram.percentile(99));
+    assertEquals(8191, histogram.percentile(100));
+    assertEquals(0, histogram.percentile(0));
+  }
+
+  @Test
+  @DisplayName("register() exposes the metrics as MBean attributes.")
+  void testRegisterMBean() throws JMException {
+    InstrumentedIndexedList<Integer> list = new InstrumentedIndexedList<>(new ArrayIndexedList<>(LENGTH, INITIAL));
+    list.get(0);
+    ObjectName name = list.register("test-" + System.identityHashCode(list));
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      assertEquals(1L, server.getAttribute(name, "GetCount"));
+      server.invoke(name, "reset", null, null);
+      assertEquals(0L, server.getAttribute(name, "GetCount"));
+    } finally {
+      server.unregisterMBean(name);
+    }
+  }
+
+  @Test
+  @DisplayName("bulk operations reach the wrapped list and count once each.")
+  void testBulkOperationsForwarded() {
+    InstrumentedIndexedList<Integer> list = new InstrumentedIndexedList<>(new ArrayIndexedList<>(1000, INITIAL));
+    list.fill(0, 1000, 1);
+    list.putRange(10, new Integer[] {2, 3});
+    Integer[] dst = new Integer[3];
+    list.getRange(9, 12, dst);
+    list.copyFrom(new ArrayIndexedList<>(5, 4), 0, 995, 5);
+    try {
+      list.fill(0, 1001, 1);
+      fail("IndexException was not thrown");
+    } catch (IndexException ex) {
+      assertEquals(5, list.getBulkCount());
+    }
+    assertEquals(0, list.getPutCount());
+    assertEquals(0, list.getGetCount());
+    assertEquals(1, list.getIndexExceptionCount());
+    assertEquals(5, list.snapshot().bulkCount());
+    assertEquals(5, list.bulkLatencies().count());
+    assertEquals(1, dst[0]);
+    assertEquals(3, dst[2]);
+    assertEquals(4, list.get(999));
+  }
+
+}
@@ -0,0 +1,32 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IntArrayIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new IntArrayIndexedList(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("putInt() is visible through getInt(), get() and the primitive iterator.")
+  void testPrimitiveAndBoxedViewsAgree() {
+    IntArrayIndexedList list = new IntArrayIndexedList(LENGTH, INITIAL);
+    for (int i = 0; i < LENGTH; i++) {
+      list.putInt(i, i * i);
+    }
+    PrimitiveIterator.OfInt it = list.iterator();
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i * i, list.getInt(i));
+      assertEquals(i * i, list.get(i));
+      assertEquals(i * i, it.nextInt());
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package hw2;
+
+public class IntLinkedIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new IntLinkedIndexedList(LENGTH, INITIAL);
+  }
+
+}
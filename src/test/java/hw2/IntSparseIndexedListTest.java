@@ -0,0 +1,36 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IntSparseIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new IntSparseIndexedList(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("putInt() of the default value only removes that position.")
+  void testPutDefaultRemovesOnlyThatPosition() {
+    IntSparseIndexedList list = new IntSparseIndexedList(LENGTH, INITIAL);
+    list.putInt(1, 1);
+    list.putInt(4, 4);
+    list.putInt(8, 8);
+    list.putInt(1, INITIAL);
+    list.putInt(8, INITIAL);
+    assertEquals(INITIAL, list.getInt(1));
+    assertEquals(4, list.getInt(4));
+    assertEquals(INITIAL, list.getInt(8));
+
+    PrimitiveIterator.OfInt it = list.iterator();
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i == 4 ? 4 : INITIAL, it.nextInt());
+    }
+  }
+
+}
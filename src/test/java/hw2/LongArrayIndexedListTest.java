@@ -0,0 +1,80 @@
+package hw2;
+
+import exceptions.IndexException;
+import exceptions.LengthException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class LongArrayIndexedListTest {
+  private static final int LENGTH = 10;
+  private static final long INITIAL = 7;
+
+  @Test
+  @DisplayName("a new list holds the default value in every slot.")
+  void testNewListHoldsDefault() {
+    LongArrayIndexedList list = new LongArrayIndexedList(LENGTH, INITIAL);
+    assertEquals(LENGTH, list.length());
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(INITIAL, list.getLong(i));
+    }
+  }
+
+  @Test
+  @DisplayName("putLong() is visible through getLong(), get() and the primitive iterator.")
+  void testPrimitiveAndBoxedViewsAgree() {
+    LongArrayIndexedList list = new LongArrayIndexedList(LENGTH, INITIAL);
+    for (int i = 0; i < LENGTH; i++) {
+      list.putLong(i, i * 1_000_000_000_000L);
+    }
+    PrimitiveIterator.OfLong it = list.iterator();
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i * 1_000_000_000_000L, list.getLong(i));
+      assertEquals(i * 1_000_000_000_000L, list.get(i));
+      assertEquals(i * 1_000_000_000_000L, it.nextLong());
+    }
+    assertFalse(it.hasNext());
+    try {
+      it.nextLong();
+      fail("NoSuchElementException was not thrown");
+    } catch (NoSuchElementException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("getLong() and putLong() reject indices out of range.")
+  void testIndexOutOfRangeThrows() {
+    LongArrayIndexedList list = new LongArrayIndexedList(LENGTH, INITIAL);
+    try {
+      list.getLong(LENGTH);
+      fail("IndexException was not thrown for getLong()");
+    } catch (IndexException ex) {
+      assertEquals(INITIAL, list.getLong(LENGTH - 1));
+    }
+    try {
+      list.putLong(-1, 1);
+      fail("IndexException was not thrown for putLong()");
+    } catch (IndexException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("constructor rejects a non-positive length.")
+  void testConstructorRejectsZeroLength() {
+    try {
+      new LongArrayIndexedList(0, INITIAL);
+      fail("LengthException was not thrown");
+    } catch (LengthException ex) {
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,57 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class MappedViewTest {
+  private static final int LENGTH = 10;
+
+  @Test
+  @DisplayName("map() applies the function on every read, seeing later writes.")
+  void testMapIsLazy() {
+    IndexedList<Integer> list = new SparseIndexedList<>(LENGTH, 0);
+    IndexedList<String> mapped = list.map(i -> "v" + i);
+    list.put(3, 3);
+    assertEquals("v3", mapped.get(3));
+    assertEquals("v0", mapped.get(4));
+    assertEquals(LENGTH, mapped.length());
+    assertEquals(Arrays.asList("v0", "v3", "v0"), mapped.slice(2, 5).stream().collect(Collectors.toList()));
+    IndexedList<Integer> lengths = mapped.map(String::length);
+    assertEquals(LENGTH * 2, lengths.parallelStream().mapToInt(Integer::intValue).sum());
+  }
+
+  @Test
+  @DisplayName("the iterator of a mapped view maps the parent's values in order.")
+  void testMappedIterator() {
+    IndexedList<Integer> list = new LinkedIndexedList<>(LENGTH, 1);
+    list.put(LENGTH - 1, 5);
+    int sum = 0;
+    for (int value : list.map(i -> i * 2)) {
+      sum += value;
+    }
+    assertEquals((LENGTH - 1) * 2 + 10, sum);
+  }
+
+  @Test
+  @DisplayName("readOnly() rejects put() and shows writes to the list.")
+  void testReadOnlyRejectsPut() {
+    IndexedList<Integer> list = new ArrayIndexedList<>(LENGTH, 0);
+    IndexedList<Integer> view = list.readOnly();
+    list.put(1, 1);
+    assertEquals(1, view.get(1));
+    assertEquals(view, view.readOnly());
+    try {
+      view.put(1, 2);
+      fail("UnsupportedOperationException was not thrown");
+    } catch (UnsupportedOperationException ex) {
+      assertEquals(1, list.get(1));
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class MemoryMappedIndexedListTest extends IndexedListTest {
+
+  private static Path tempFile() throws IOException {
+    Path file = Files.createTempFile("indexed-list", ".dat");
+    file.toFile().deleteOnExit();
+    return file;
+  }
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    try {
+      return MemoryMappedIndexedList.create(tempFile(), LENGTH, INITIAL, FixedWidthCodec.INT);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @Test
+  @DisplayName("reopening a file sees the values written before force().")
+  void testReopenSeesWrittenValues() throws IOException {
+    Path file = tempFile();
+    MemoryMappedIndexedList<Long> list = MemoryMappedIndexedList.create(file, LENGTH, 0L, FixedWidthCodec.LONG);
+    for (int i = 0; i < LENGTH; i++) {
+      list.put(i, (long) i << 40);
+    }
+    list.force();
+
+    MemoryMappedIndexedList<Long> reopened = MemoryMappedIndexedList.openReadOnly(file, FixedWidthCodec.LONG);
+    assertEquals(LENGTH, reopened.length());
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals((long) i << 40, reopened.get(i));
+    }
+    try {
+      reopened.put(0, 1L);
+      fail("ReadOnlyBufferException was not thrown for a read-only mapping");
+    } catch (ReadOnlyBufferException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("opening with a codec of another width is rejected.")
+  void testOpenRejectsOtherCodec() throws IOException {
+    Path file = tempFile();
+    MemoryMappedIndexedList.create(file, LENGTH, INITIAL, FixedWidthCodec.INT);
+    try {
+      MemoryMappedIndexedList.open(file, FixedWidthCodec.DOUBLE);
+      fail("IOException was not thrown for a codec of another width");
+    } catch (IOException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("create() rejects a null default value.")
+  void testCreateRejectsNullDefault() throws IOException {
+    try {
+      MemoryMappedIndexedList.create(tempFile(), LENGTH, null, FixedWidthCodec.INT);
+      fail("NullPointerException was not thrown for a null default value");
+    } catch (NullPointerException ex) {
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,59 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class OffHeapIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new OffHeapIndexedList<>(LENGTH, INITIAL, FixedWidthCodec.INT);
+  }
+
+  @Test
+  @DisplayName("long indices address values across segment boundaries.")
+  void testLongIndicesAcrossSegments() {
+    long length = 1000;
+    OffHeapIndexedList<Double> list = new OffHeapIndexedList<>(length, 0.5, FixedWidthCodec.DOUBLE, 64);
+    for (long i = 0; i < length; i += 7) {
+      list.put(i, i * 2.0);
+    }
+    long i = 0;
+    for (double element : list) {
+      assertEquals(i % 7 == 0 ? i * 2.0 : 0.5, element);
+      assertEquals(element, list.get(i));
+      i++;
+    }
+    assertEquals(length, i);
+    assertEquals(length, list.longLength());
+  }
+
+  @Test
+  @DisplayName("a closed list rejects further access.")
+  void testClosedListRejectsAccess() {
+    OffHeapIndexedList<Long> list = new OffHeapIndexedList<>(LENGTH, 3L, FixedWidthCodec.LONG);
+    assertEquals(3L, list.get(2L));
+    list.close();
+    try {
+      list.get(2L);
+      fail("IllegalStateException was not thrown after close()");
+    } catch (IllegalStateException ex) {
+      return;
+    }
+  }
+
+  @Test
+  @DisplayName("constructor rejects a null default value.")
+  void testConstructorRejectsNullDefault() {
+    try {
+      new OffHeapIndexedList<Integer>(LENGTH, null, FixedWidthCodec.INT);
+      fail("NullPointerException was not thrown for a null default value");
+    } catch (NullPointerException ex) {
+      return;
+    }
+  }
+
+}
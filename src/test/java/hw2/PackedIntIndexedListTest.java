@@ -0,0 +1,58 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PackedIntIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new PackedIntIndexedList(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("values of any range read back through getInt() and the iterator.")
+  void testRandomValuesMatchArray() {
+    int length = 1000;
+    PackedIntIndexedList list = new PackedIntIndexedList(length, 0);
+    int[] expected = new int[length];
+    Random random = new Random(226);
+    for (int i = 0; i < 5000; i++) {
+      int index = random.nextInt(length);
+      int value = i % 7 == 0 ? random.nextInt() : random.nextInt(1000) - 500;
+      list.putInt(index, value);
+      expected[index] = value;
+    }
+    list.putInt(0, Integer.MIN_VALUE);
+    expected[0] = Integer.MIN_VALUE;
+    list.putInt(1, Integer.MAX_VALUE);
+    expected[1] = Integer.MAX_VALUE;
+    PrimitiveIterator.OfInt it = list.iterator();
+    for (int i = 0; i < length; i++) {
+      assertEquals(expected[i], list.getInt(i));
+      assertEquals(expected[i], it.nextInt());
+    }
+  }
+
+  @Test
+  @DisplayName("a block widens only as far as its offsets need.")
+  void testBlockWidth() {
+    PackedIntIndexedList list = new PackedIntIndexedList(300, 100);
+    assertEquals(0, list.bitsPerSlot(5));
+    list.putInt(5, 103);
+    assertEquals(2, list.bitsPerSlot(5));
+    list.putInt(6, 101);
+    assertEquals(2, list.bitsPerSlot(5));
+    list.putInt(7, 99);
+    assertEquals(3, list.bitsPerSlot(5));
+    assertEquals(0, list.bitsPerSlot(200));
+    assertEquals(103, list.getInt(5));
+    assertEquals(100, list.getInt(8));
+  }
+
+}
@@ -0,0 +1,43 @@
+package hw2;
+
+import exceptions.LengthException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PagedSparseIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new PagedSparseIndexedList<>(LENGTH, INITIAL, 2);
+  }
+
+  @Test
+  @DisplayName("pages are reused after being released back to all-default.")
+  void testPageReleasedAndReallocated() {
+    IndexedList<Integer> list = new PagedSparseIndexedList<>(LENGTH, INITIAL, 2);
+    list.put(5, 1);
+    list.put(6, 2);
+    list.put(5, INITIAL);
+    list.put(6, INITIAL);
+    assertEquals(INITIAL, list.get(5));
+    list.put(4, 3);
+    assertEquals(3, list.get(4));
+    assertEquals(INITIAL, list.get(5));
+    assertEquals(INITIAL, list.get(6));
+  }
+
+  @Test
+  @DisplayName("constructor rejects page sizes out of range.")
+  void testConstructorRejectsInvalidPageBits() {
+    try {
+      new PagedSparseIndexedList<>(LENGTH, INITIAL, 31);
+      fail("LengthException was not thrown for a page size above 2^30");
+    } catch (LengthException ex) {
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package hw2;
+
+public class PagedSparseIndexedListTraversalTest extends SparseListTest {
+
+  @Override
+  public SparseList<Integer> createSparseList() {
+    return new PagedSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+}
@@ -0,0 +1,62 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PersistentIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new PersistentIndexedList<>(LENGTH, INITIAL).asTransient();
+  }
+
+  @Test
+  @DisplayName("with() leaves the original version unchanged.")
+  void testWithKeepsOldVersion() {
+    int length = 5000;
+    PersistentIndexedList<Integer> original = new PersistentIndexedList<>(length, 0);
+    PersistentIndexedList<Integer> changed = original.with(4321, 1).with(31, 2).with(32, 3);
+    for (int i = 0; i < length; i++) {
+      assertEquals(0, original.get(i));
+      assertEquals(i == 4321 ? 1 : i == 31 ? 2 : i == 32 ? 3 : 0, changed.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("a snapshot does not see later writes to its transient.")
+  void testSnapshotIsolatedFromTransient() {
+    int length = 2000;
+    PersistentIndexedList.Transient<Integer> builder =
+        new PersistentIndexedList<>(length, 0).asTransient();
+    for (int i = 0; i < length; i++) {
+      builder.put(i, i);
+    }
+    PersistentIndexedList<Integer> first = builder.snapshot();
+    for (int i = 0; i < length; i += 2) {
+      builder.put(i, -i);
+    }
+    PersistentIndexedList<Integer> second = builder.snapshot();
+    int i = 0;
+    for (int element : first) {
+      assertEquals(i, element);
+      assertEquals(i % 2 == 0 ? -i : i, second.get(i));
+      i++;
+    }
+    assertEquals(length, i);
+  }
+
+  @Test
+  @DisplayName("put() on a persistent version is rejected.")
+  void testPutOnPersistentThrows() {
+    try {
+      new PersistentIndexedList<>(LENGTH, INITIAL).put(0, 1);
+      fail("UnsupportedOperationException was not thrown");
+    } catch (UnsupportedOperationException ex) {
+      return;
+    }
+  }
+
+}
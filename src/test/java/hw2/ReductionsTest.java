@@ -0,0 +1,105 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ReductionsTest {
+  private static final int LENGTH = 40000;
+  private static final int INITIAL = 3;
+
+  // Every kind of traversal: sparse, random access (pooled) and iterator.
+  private static List<IndexedList<Integer>> lists(int length) {
+    List<IndexedList<Integer>> lists = Arrays.asList(
+        new ArrayIndexedList<>(length, INITIAL),
+        new LinkedIndexedList<>(length, INITIAL),
+        new SparseIndexedList<>(length, INITIAL),
+        new HashSparseIndexedList<>(length, INITIAL),
+        new IntArrayIndexedList(length, INITIAL),
+        new PackedIntIndexedList(length, INITIAL));
+    Random random = new Random(226);
+    for (int i = 0; i < length / 50; i++) {
+      int index = random.nextInt(length);
+      int value = random.nextInt(2001) - 1000;
+      for (IndexedList<Integer> list : lists) {
+        list.put(index, value);
+      }
+    }
+    return lists;
+  }
+
+  @Test
+  @DisplayName("sum(), min() and max() match a loop over get().")
+  void testSumMinMaxMatchNaiveLoop() {
+    for (int length : new int[] {1, 100, LENGTH}) {
+      for (IndexedList<Integer> list : lists(length)) {
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+          sum += list.get(i);
+          min = Math.min(min, list.get(i));
+          max = Math.max(max, list.get(i));
+        }
+        assertEquals((double) sum, Reductions.sum(list));
+        assertEquals(min, Reductions.min(list));
+        assertEquals(max, Reductions.max(list));
+        if (list instanceof IntIndexedList) {
+          assertEquals(sum, Reductions.sum((IntIndexedList) list));
+          assertEquals(min, Reductions.min((IntIndexedList) list));
+          assertEquals(max, Reductions.max((IntIndexedList) list));
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("count() matches a loop over get(), also when defaults match.")
+  void testCountMatchesNaiveLoop() {
+    List<Predicate<Integer>> predicates = Arrays.asList(v -> v > 0, v -> v < 0, v -> v == INITIAL);
+    for (IndexedList<Integer> list : lists(LENGTH)) {
+      for (Predicate<Integer> predicate : predicates) {
+        int count = 0;
+        for (int i = 0; i < LENGTH; i++) {
+          count += predicate.test(list.get(i)) ? 1 : 0;
+        }
+        assertEquals(count, Reductions.count(list, predicate));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("histogram() matches binning every value from get().")
+  void testHistogramMatchesNaiveLoop() {
+    for (IndexedList<Integer> list : lists(LENGTH)) {
+      long[] expected = new long[8];
+      for (int i = 0; i < LENGTH; i++) {
+        int value = list.get(i);
+        if (value >= -500 && value < 500) {
+          expected[(value + 500) / 125]++;
+        }
+      }
+      assertArrayEquals(expected, Reductions.histogram(list, -500, 500, 8));
+    }
+  }
+
+  @Test
+  @DisplayName("histogram() rejects an empty range.")
+  void testHistogramRejectsEmptyRange() {
+    try {
+      Reductions.histogram(new ArrayIndexedList<>(1, 0), 1, 1, 4);
+      fail("IllegalArgumentException was not thrown");
+    } catch (IllegalArgumentException ex) {
+      return;
+    }
+  }
+
+}
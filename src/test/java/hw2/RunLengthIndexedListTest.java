@@ -0,0 +1,65 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RunLengthIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new RunLengthIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("put() splits a run and merges it again when restored.")
+  void testPutSplitsAndMerges() {
+    RunLengthIndexedList<Integer> list = new RunLengthIndexedList<>(LENGTH, INITIAL);
+    list.put(4, 1);
+    assertEquals(3, list.runCount());
+    list.put(5, 1);
+    assertEquals(3, list.runCount());
+    list.put(0, 1);
+    assertEquals(4, list.runCount());
+    list.put(4, INITIAL);
+    list.put(5, INITIAL);
+    list.put(0, INITIAL);
+    assertEquals(1, list.runCount());
+    assertEquals(INITIAL, list.get(LENGTH - 1));
+  }
+
+  @Test
+  @DisplayName("fill() collapses the runs it covers into one.")
+  void testFillCollapsesRuns() {
+    RunLengthIndexedList<Integer> list = new RunLengthIndexedList<>(LENGTH, INITIAL);
+    for (int i = 0; i < LENGTH; i += 2) {
+      list.put(i, i);
+    }
+    assertEquals(LENGTH, list.runCount());
+    list.fill(1, LENGTH - 1, 3);
+    assertEquals(3, list.runCount());
+    assertEquals(0, list.get(0));
+    assertEquals(3, list.get(1));
+    assertEquals(3, list.get(LENGTH - 2));
+    assertEquals(INITIAL, list.get(LENGTH - 1));
+    list.fill(0, LENGTH, INITIAL);
+    assertEquals(1, list.runCount());
+  }
+
+  @Test
+  @DisplayName("fill() inside one run keeps both ends of it.")
+  void testFillInsideRun() {
+    RunLengthIndexedList<Integer> list = new RunLengthIndexedList<>(LENGTH, INITIAL);
+    list.fill(3, 6, 1);
+    list.fill(4, 5, 2);
+    Integer[] expected = {INITIAL, INITIAL, INITIAL, 1, 2, 1, INITIAL, INITIAL, INITIAL, INITIAL};
+    Integer[] actual = new Integer[LENGTH];
+    list.getRange(0, LENGTH, actual);
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(expected[i], actual[i]);
+    }
+    assertEquals(5, list.runCount());
+  }
+
+}
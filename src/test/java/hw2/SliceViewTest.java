@@ -0,0 +1,31 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SliceViewTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    IndexedList<Integer> parent = new LinkedIndexedList<>(LENGTH + 5, INITIAL);
+    parent.put(0, 0);
+    parent.put(LENGTH + 4, 0);
+    return parent.slice(2, LENGTH + 2);
+  }
+
+  @Test
+  @DisplayName("bulk writes through a slice land at the shifted positions.")
+  void testBulkWritesThroughSlice() {
+    IndexedList<Integer> parent = new SparseIndexedList<>(LENGTH, INITIAL);
+    IndexedList<Integer> slice = parent.slice(3, 8);
+    slice.fill(1, 4, 1);
+    slice.putRange(0, new Integer[] {2, 3});
+    assertEquals(toList(parent).subList(3, 8), toList(slice));
+    assertEquals(3, parent.get(4));
+    assertEquals(1, parent.get(6));
+    assertEquals(INITIAL, parent.get(7));
+  }
+
+}
@@ -0,0 +1,34 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SortedSparseIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new SortedSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("storage grows and compacts while values stay in index order.")
+  void testGrowAndCompact() {
+    int length = 1000;
+    IndexedList<Integer> list = new SortedSparseIndexedList<>(length, INITIAL);
+    for (int i = length - 1; i >= 0; i -= 3) {
+      list.put(i, i);
+    }
+    for (int i = 0; i < length; i += 2) {
+      list.put(i, INITIAL);
+    }
+    int i = 0;
+    for (int element : list) {
+      assertEquals(i % 3 == (length - 1) % 3 && i % 2 == 1 ? i : INITIAL, element);
+      i++;
+    }
+    assertEquals(length, i);
+  }
+
+}
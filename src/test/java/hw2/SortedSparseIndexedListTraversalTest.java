@@ -0,0 +1,10 @@
+package hw2;
+
+public class SortedSparseIndexedListTraversalTest extends SparseListTest {
+
+  @Override
+  public SparseList<Integer> createSparseList() {
+    return new SortedSparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+}
@@ -0,0 +1,74 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Round trips of SparseIndexedList through SparseIndexedListSnapshot.
+ */
+public class SparseIndexedListSnapshotTest {
+
+  private static byte[] save(SparseIndexedList<Integer> list) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    SparseIndexedListSnapshot.write(list, FixedWidthCodec.INT, Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+
+  private static SparseIndexedList<Integer> load(byte[] bytes) throws IOException {
+    return SparseIndexedListSnapshot.read(FixedWidthCodec.INT, Channels.newChannel(new ByteArrayInputStream(bytes)));
+  }
+
+  @Test
+  @DisplayName("a snapshot restores length, default and every stored value.")
+  void testRoundTrip() throws IOException {
+    int length = 300000;
+    SparseIndexedList<Integer> list = new SparseIndexedList<>(length, -1);
+    for (int i = 0; i < length; i += 3) {
+      list.put(i, i);
+    }
+    list.put(length - 1, 42);
+
+    SparseIndexedList<Integer> restored = load(save(list));
+    assertEquals(length, restored.length());
+    assertEquals(-1, restored.defaultValue());
+    int i = 0;
+    for (int element : restored) {
+      assertEquals(i == length - 1 ? 42 : i % 3 == 0 ? i : -1, element);
+      i++;
+    }
+  }
+
+  @Test
+  @DisplayName("a list without stored values round trips to an all-default list.")
+  void testRoundTripEmpty() throws IOException {
+    SparseIndexedList<Integer> restored = load(save(new SparseIndexedList<>(5, 7)));
+    for (int element : restored) {
+      assertEquals(7, element);
+    }
+  }
+
+  @Test
+  @DisplayName("a truncated snapshot is rejected.")
+  void testTruncatedSnapshotThrows() throws IOException {
+    SparseIndexedList<Integer> list = new SparseIndexedList<>(10, 0);
+    list.put(4, 4);
+    byte[] bytes = save(list);
+    try {
+      load(Arrays.copyOf(bytes, bytes.length - 1));
+      fail("EOFException was not thrown for a truncated snapshot");
+    } catch (EOFException ex) {
+      return;
+    }
+  }
+
+}
@@ -1,5 +1,13 @@
 package hw2;
 
+import exceptions.IndexException;
+import exceptions.LengthException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
 public class SparseIndexedListTest extends IndexedListTest {
 
   @Override
@@ -7,4 +15,86 @@ public class SparseIndexedListTest extends IndexedListTest {
     return new SparseIndexedList<>(LENGTH, INITIAL);
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("put() of the default value only removes that position.")
+  void testPutDefaultRemovesOnlyThatPosition() {
+    IndexedList<Integer> list = createArray();
+    list.put(1, 1);
+    list.put(4, 4);
+    list.put(8, 8);
+    list.put(4, INITIAL);
+    list.put(1, INITIAL);
+    assertEquals(INITIAL, list.get(1));
+    assertEquals(INITIAL, list.get(4));
+    assertEquals(8, list.get(8));
+  }
+
+  @Test
+  @DisplayName("get() is correct when accesses jump backwards after a forward scan.")
+  void testGetAfterBackwardJump() {
+    IndexedList<Integer> list = createArray();
+    for (int i = 0; i < LENGTH; i += 2) {
+      list.put(i, i);
+    }
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i % 2 == 0 ? i : INITIAL, list.get(i));
+    }
+    list.put(1, 1);
+    list.put(0, INITIAL);
+    assertEquals(INITIAL, list.get(0));
+    assertEquals(1, list.get(1));
+    assertEquals(2, list.get(2));
+  }
+
+  @Test
+  @DisplayName("parallelStream() over a long list sums stored values and defaults.")
+  void testParallelSumOverLongList() {
+    int length = 100000;
+    IndexedList<Integer> list = new SparseIndexedList<>(length, 1);
+    long expected = length;
+    for (int i = 0; i < length; i += 97) {
+      list.put(i, i);
+      expected += i - 1;
+    }
+    assertEquals(expected, list.parallelStream().mapToLong(Integer::longValue).sum());
+  }
+
+  @Test
+  @DisplayName("putAll() merges an unsorted batch, last write to an index wins.")
+  void testPutAllMergesUnsortedBatch() {
+    SparseIndexedList<Integer> list = new SparseIndexedList<>(LENGTH, INITIAL);
+    list.put(2, 2);
+    list.put(5, 5);
+    list.put(8, 8);
+    list.putAll(new int[] {9, 5, 0, 2, 9, 3}, new Integer[] {1, INITIAL, 0, 3, 9, INITIAL});
+    Integer[] expected = {0, INITIAL, 3, INITIAL, INITIAL, INITIAL, INITIAL, INITIAL, 8, 9};
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(expected[i], list.get(i));
+    }
+    assertEquals(4, list.nonDefaultCount());
+  }
+
+  @Test
+  @DisplayName("putAll() writes nothing when one index is invalid.")
+  void testPutAllInvalidIndexWritesNothing() {
+    SparseIndexedList<Integer> list = new SparseIndexedList<>(LENGTH, INITIAL);
+    try {
+      list.putAll(new int[] {1, LENGTH}, new Integer[] {1, 2});
+      fail("IndexException was not thrown");
+    } catch (IndexException ex) {
+      assertEquals(INITIAL, list.get(1));
+    }
+  }
+
+  @Test
+  @DisplayName("putAll() rejects arrays of different lengths.")
+  void testPutAllMismatchedLengthsThrows() {
+    try {
+      new SparseIndexedList<>(LENGTH, INITIAL).putAll(new int[] {1}, new Integer[0]);
+      fail("LengthException was not thrown");
+    } catch (LengthException ex) {
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,10 @@
+package hw2;
+
+public class SparseIndexedListTraversalTest extends SparseListTest {
+
+  @Override
+  public SparseList<Integer> createSparseList() {
+    return new SparseIndexedList<>(LENGTH, INITIAL);
+  }
+
+}
@@ -0,0 +1,90 @@
+package hw2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit Tests for the non-default traversal of any class implementing
+ * the SparseList interface.
+ */
+public abstract class SparseListTest {
+  protected static final int LENGTH = 1000;
+  protected static final int INITIAL = 7;
+  private static final List<Integer> STORED = Arrays.asList(0, 5, 255, 256, 600, 999);
+  private SparseList<Integer> sparseList;
+
+  public abstract SparseList<Integer> createSparseList();
+
+  @BeforeEach
+  public void setup() {
+    sparseList = createSparseList();
+    for (int index : STORED) {
+      sparseList.put(index, -index);
+    }
+    sparseList.put(300, 1);
+    sparseList.put(300, INITIAL);
+  }
+
+  @Test
+  @DisplayName("nonDefaultCount() counts stored positions only.")
+  void testNonDefaultCount() {
+    assertEquals(STORED.size(), sparseList.nonDefaultCount());
+    assertEquals(INITIAL, sparseList.defaultValue());
+  }
+
+  @Test
+  @DisplayName("forEachNonDefault() visits stored positions in index order.")
+  void testForEachNonDefaultInOrder() {
+    List<Integer> indices = new ArrayList<>();
+    sparseList.forEachNonDefault((index, value) -> {
+      assertEquals(-index, value);
+      indices.add(index);
+    });
+    assertEquals(STORED, indices);
+  }
+
+  @Test
+  @DisplayName("nextNonDefaultIndex() finds the next stored position or -1.")
+  void testNextNonDefaultIndex() {
+    assertEquals(0, sparseList.nextNonDefaultIndex(0));
+    assertEquals(5, sparseList.nextNonDefaultIndex(1));
+    assertEquals(256, sparseList.nextNonDefaultIndex(256));
+    assertEquals(600, sparseList.nextNonDefaultIndex(257));
+    assertEquals(-1, sparseList.nextNonDefaultIndex(LENGTH));
+    sparseList.put(999, INITIAL);
+    assertEquals(-1, sparseList.nextNonDefaultIndex(601));
+  }
+
+  @Test
+  @DisplayName("nonDefaultEntries() iterates stored positions in index order.")
+  void testNonDefaultEntries() {
+    Iterator<Map.Entry<Integer, Integer>> it = sparseList.nonDefaultEntries();
+    for (int index : STORED) {
+      Map.Entry<Integer, Integer> entry = it.next();
+      assertEquals(index, entry.getKey());
+      assertEquals(-index, entry.getValue());
+    }
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  @DisplayName("fill() keeps nonDefaultCount() in step.")
+  void testFillUpdatesNonDefaultCount() {
+    sparseList.fill(250, 700, 1);
+    assertEquals(3 + 450, sparseList.nonDefaultCount());
+    sparseList.fill(0, LENGTH, INITIAL);
+    assertEquals(0, sparseList.nonDefaultCount());
+    assertEquals(-1, sparseList.nextNonDefaultIndex(0));
+  }
+
+}
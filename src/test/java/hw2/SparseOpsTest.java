@@ -0,0 +1,129 @@
+package hw2;
+
+import exceptions.LengthException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class SparseOpsTest {
+  private static final int LENGTH = 100;
+  private SparseIndexedList<Integer> a;
+  private SparseIndexedList<Integer> b;
+
+  @BeforeEach
+  public void setup() {
+    a = new SparseIndexedList<>(LENGTH, 1);
+    b = new SparseIndexedList<>(LENGTH, 2);
+    for (int i = 0; i < LENGTH; i += 3) {
+      a.put(i, i);
+    }
+    for (int i = 0; i < LENGTH; i += 5) {
+      b.put(i, -i);
+    }
+  }
+
+  @Test
+  @DisplayName("zipWith() matches combining get() at every index.")
+  void testZipWithMatchesGet() {
+    SparseIndexedList<Integer> sum = SparseOps.zipWith(a, b, Integer::sum);
+    assertEquals(3, sum.defaultValue());
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(a.get(i) + b.get(i), sum.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("dot() includes the product of defaults at unstored positions.")
+  void testDotMatchesNaiveLoop() {
+    double expected = 0;
+    for (int i = 0; i < LENGTH; i++) {
+      expected += a.get(i) * b.get(i);
+    }
+    assertEquals(expected, SparseOps.dot(a, b));
+  }
+
+  @Test
+  @DisplayName("addInPlace() adds at every position stored in either list.")
+  void testAddInPlace() {
+    SparseIndexedList<Integer> target = new SparseIndexedList<>(LENGTH, 0);
+    target.put(1, 1);
+    target.put(3, 3);
+    SparseIndexedList<Integer> other = new SparseIndexedList<>(LENGTH, 0);
+    other.put(3, -3);
+    other.put(4, 4);
+    SparseOps.addInPlace(target, other, Integer::sum);
+    assertEquals(1, target.get(1));
+    assertEquals(0, target.get(3));
+    assertEquals(4, target.get(4));
+    assertEquals(2, target.nonDefaultCount());
+  }
+
+  @Test
+  @DisplayName("addInPlace() accepts boxed Double defaults that are equal but not the same.")
+  void testAddInPlaceDoubles() {
+    SparseIndexedList<Double> target = new SparseIndexedList<>(LENGTH, 0.0);
+    target.put(2, 1.5);
+    target.put(5, -2.0);
+    SparseIndexedList<Double> other = new SparseIndexedList<>(LENGTH, 0.0);
+    other.put(5, 2.0);
+    other.put(7, 0.25);
+    SparseOps.addInPlace(target, other, Double::sum);
+    assertEquals(1.5, target.get(2));
+    assertEquals(0.0, target.get(5));
+    assertEquals(0.25, target.get(7));
+    assertEquals(2, target.nonDefaultCount());
+  }
+
+  @Test
+  @DisplayName("addInPlace() removes sums that cancel back to an uncached default.")
+  void testAddInPlaceUncachedDefault() {
+    SparseIndexedList<Integer> target = new SparseIndexedList<>(LENGTH, 1000);
+    SparseIndexedList<Integer> other = new SparseIndexedList<>(LENGTH, 0);
+    for (int i = 0; i < LENGTH; i += 2) {
+      target.put(i, 1000 + i);
+      other.put(i, i % 4 == 0 ? -i : 1);
+    }
+    SparseOps.addInPlace(target, other, Integer::sum);
+    for (int i = 0; i < LENGTH; i++) {
+      assertEquals(i % 4 == 2 ? 1001 + i : 1000, target.get(i));
+    }
+    assertEquals(LENGTH / 4, target.nonDefaultCount());
+  }
+
+  @Test
+  @DisplayName("addInPlace() rejects defaults that do not add up to the target default.")
+  void testAddInPlaceRejectsDefaults() {
+    try {
+      SparseOps.addInPlace(a, b, Integer::sum);
+      fail("IllegalArgumentException was not thrown");
+    } catch (IllegalArgumentException ex) {
+      assertEquals(1, a.get(1));
+    }
+  }
+
+  @Test
+  @DisplayName("countDifferences() counts unstored positions when defaults differ.")
+  void testCountDifferences() {
+    int expected = 0;
+    for (int i = 0; i < LENGTH; i++) {
+      expected += a.get(i).equals(b.get(i)) ? 0 : 1;
+    }
+    assertEquals(expected, SparseOps.countDifferences(a, b));
+    assertEquals(0, SparseOps.countDifferences(a, a));
+  }
+
+  @Test
+  @DisplayName("operations reject lists of different lengths.")
+  void testLengthMismatchThrows() {
+    try {
+      SparseOps.dot(a, new SparseIndexedList<>(LENGTH + 1, 0));
+      fail("LengthException was not thrown");
+    } catch (LengthException ex) {
+      return;
+    }
+  }
+
+}
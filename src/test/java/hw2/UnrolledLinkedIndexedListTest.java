@@ -0,0 +1,34 @@
+package hw2;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UnrolledLinkedIndexedListTest extends IndexedListTest {
+
+  @Override
+  public IndexedList<Integer> createArray() {
+    return new UnrolledLinkedIndexedList<>(LENGTH, INITIAL);
+  }
+
+  @Test
+  @DisplayName("values are found across block boundaries, including a partial last block.")
+  void testValuesAcrossBlocks() {
+    int length = 1000;
+    IndexedList<Integer> list = new UnrolledLinkedIndexedList<>(length, INITIAL);
+    for (int i = 0; i < length; i++) {
+      list.put(i, i);
+    }
+    for (int i = 0; i < length; i++) {
+      assertEquals(i, list.get(i));
+    }
+    int i = 0;
+    for (int element : list) {
+      assertEquals(i, element);
+      i++;
+    }
+    assertEquals(length, i);
+  }
+
+}
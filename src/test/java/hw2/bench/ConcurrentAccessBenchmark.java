@@ -0,0 +1,133 @@
+package hw2.bench;
+
+import hw2.ArrayIndexedList;
+import hw2.ConcurrentArrayIndexedList;
+import hw2.ConcurrentIntArrayIndexedList;
+import hw2.IndexedList;
+import hw2.IntArrayIndexedList;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Multi-threaded random access: ConcurrentArrayIndexedList and
+ * ConcurrentIntArrayIndexedList against an ArrayIndexedList behind one
+ * global lock, the setup they replace.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentAccessBenchmark {
+
+  @Param({"synchronized", "concurrent"})
+  public String implementation;
+
+  @Param({"100000"})
+  public int length;
+
+  private IndexedList<Integer> list;
+  private IntArrayIndexedList lockedCounters;
+  private ConcurrentIntArrayIndexedList counters;
+
+  /**
+   * Build the shared lists.
+   */
+  @Setup
+  public void setup() {
+    if ("synchronized".equals(implementation)) {
+      list = new SynchronizedIndexedList<>(new ArrayIndexedList<>(length, 0));
+    } else {
+      list = new ConcurrentArrayIndexedList<>(length, 0);
+    }
+    lockedCounters = new IntArrayIndexedList(length, 0);
+    counters = new ConcurrentIntArrayIndexedList(length, 0);
+  }
+
+  /**
+   * Readers of a mixed workload, three per writer.
+   *
+   * @return the value read
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(3)
+  public Integer mixedRead() {
+    return list.get(ThreadLocalRandom.current().nextInt(length));
+  }
+
+  /**
+   * Writer of a mixed workload.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(1)
+  public void mixedWrite() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    list.put(random.nextInt(length), random.nextInt());
+  }
+
+  /**
+   * Four threads incrementing random counters.
+   *
+   * @return the new counter value
+   */
+  @Benchmark
+  @Threads(4)
+  public int increment() {
+    int index = ThreadLocalRandom.current().nextInt(length);
+    if ("synchronized".equals(implementation)) {
+      synchronized (lockedCounters) {
+        int value = lockedCounters.getInt(index) + 1;
+        lockedCounters.putInt(index, value);
+        return value;
+      }
+    }
+    return counters.addAndGet(index, 1);
+  }
+
+  // Guards every call to the wrapped list with one lock.
+  private static final class SynchronizedIndexedList<T> implements IndexedList<T> {
+    private final IndexedList<T> list;
+
+    SynchronizedIndexedList(IndexedList<T> list) {
+      this.list = list;
+    }
+
+    @Override
+    public synchronized void put(int index, T value) {
+      list.put(index, value);
+    }
+
+    @Override
+    public synchronized T get(int index) {
+      return list.get(index);
+    }
+
+    @Override
+    public synchronized int length() {
+      return list.length();
+    }
+
+    @Override
+    public synchronized Iterator<T> iterator() {
+      return list.iterator();
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package hw2.bench;
+
+import hw2.ArrayIndexedList;
+import hw2.IndexedList;
+import hw2.LinkedIndexedList;
+import hw2.SparseIndexedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the array, linked and sparse implementations on the same
+ * contents: sequential and random get/put, full iteration and the cost
+ * of building a list. density is the fraction of slots that hold a
+ * non-default value; element picks boxed integers or strings.
+ * Run main() to get throughput, average time and allocation rate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexedListBenchmark {
+
+  private static final long SEED = 226;
+
+  @Param({"array", "linked", "sparse"})
+  public String implementation;
+
+  @Param({"1000", "100000"})
+  public int length;
+
+  @Param({"0.01", "0.1", "1.0"})
+  public double density;
+
+  @Param({"integer", "string"})
+  public String element;
+
+  private Object defaultValue;
+  private Object[] values;
+  private int[] randomIndices;
+  private IndexedList<Object> list;
+
+  /**
+   * Generate the contents and random indices, then build the list.
+   */
+  @Setup
+  public void setup() {
+    Random random = new Random(SEED);
+    defaultValue = valueOf(0);
+    values = new Object[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = random.nextDouble() < density ? valueOf(i + 1) : defaultValue;
+    }
+    randomIndices = new int[length];
+    for (int i = 0; i < length; i++) {
+      randomIndices[i] = random.nextInt(length);
+    }
+    list = build();
+  }
+
+  private Object valueOf(int i) {
+    return "string".equals(element) ? String.valueOf(i) : Integer.valueOf(i);
+  }
+
+  private IndexedList<Object> newList() {
+    switch (implementation) {
+      case "array":
+        return new ArrayIndexedList<>(length, defaultValue);
+      case "linked":
+        return new LinkedIndexedList<>(length, defaultValue);
+      default:
+        return new SparseIndexedList<>(length, defaultValue);
+    }
+  }
+
+  private IndexedList<Object> build() {
+    IndexedList<Object> result = newList();
+    for (int i = 0; i < length; i++) {
+      if (values[i] != defaultValue) {
+        result.put(i, values[i]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Read every slot from front to back.
+   *
+   * @param bh sink for the values read
+   */
+  @Benchmark
+  public void sequentialGet(Blackhole bh) {
+    for (int i = 0; i < length; i++) {
+      bh.consume(list.get(i));
+    }
+  }
+
+  /**
+   * Read length slots at random positions.
+   *
+   * @param bh sink for the values read
+   */
+  @Benchmark
+  public void randomGet(Blackhole bh) {
+    for (int index : randomIndices) {
+      bh.consume(list.get(index));
+    }
+  }
+
+  /**
+   * Write every slot from front to back, keeping the contents the same.
+   */
+  @Benchmark
+  public void sequentialPut() {
+    for (int i = 0; i < length; i++) {
+      list.put(i, values[i]);
+    }
+  }
+
+  /**
+   * Write length slots at random positions, keeping the contents the same.
+   */
+  @Benchmark
+  public void randomPut() {
+    for (int index : randomIndices) {
+      list.put(index, values[index]);
+    }
+  }
+
+  /**
+   * Visit every element with the list's own iterator.
+   *
+   * @param bh sink for the values read
+   */
+  @Benchmark
+  public void iterate(Blackhole bh) {
+    for (Object value : list) {
+      bh.consume(value);
+    }
+  }
+
+  /**
+   * Allocate a list and fill in the non-default values.
+   *
+   * @return the new list
+   */
+  @Benchmark
+  public IndexedList<Object> construct() {
+    return build();
+  }
+
+  /**
+   * Run every benchmark here with the GC profiler for allocation rates.
+   *
+   * @param args ignored
+   * @throws RunnerException if JMH fails
+   */
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(IndexedListBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,82 @@
+package hw2.bench;
+
+import hw2.IndexedList;
+import hw2.LinkedIndexedList;
+import hw2.SparseIndexedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexed loops over the linked implementations.
+ * Forward loops continue from the last accessed node and run in O(n);
+ * backward loops cannot use it and still restart at head, O(n^2).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SequentialAccessBenchmark {
+
+  @Param({"linked", "sparse"})
+  public String implementation;
+
+  @Param({"1000", "10000"})
+  public int length;
+
+  private IndexedList<Integer> list;
+
+  /**
+   * Build the list; the sparse one gets a value in every fourth slot.
+   */
+  @Setup
+  public void setup() {
+    if ("linked".equals(implementation)) {
+      list = new LinkedIndexedList<>(length, 0);
+    } else {
+      list = new SparseIndexedList<>(length, 0);
+      for (int i = 0; i < length; i += 4) {
+        list.put(i, i);
+      }
+    }
+  }
+
+  /**
+   * Read every slot from front to back.
+   *
+   * @return sum of the values, so the loop is not eliminated
+   */
+  @Benchmark
+  public long forwardGet() {
+    long sum = 0;
+    for (int i = 0; i < length; i++) {
+      sum += list.get(i);
+    }
+    return sum;
+  }
+
+  /**
+   * Read every slot from back to front.
+   *
+   * @return sum of the values, so the loop is not eliminated
+   */
+  @Benchmark
+  public long backwardGet() {
+    long sum = 0;
+    for (int i = length - 1; i >= 0; i--) {
+      sum += list.get(i);
+    }
+    return sum;
+  }
+}